@@ -18,7 +18,10 @@
  */
 package org.apache.maven.plugins.changes;
 
+import javax.inject.Inject;
+
 import java.io.File;
+import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Locale;
@@ -27,7 +30,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.changes.model.ChangesDocument;
 import org.apache.maven.plugins.changes.model.Release;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
  * Goal which checks that the changes.xml file has the necessary data to generate an announcement or a report for the
@@ -73,6 +78,16 @@ public class ChangesCheckMojo extends AbstractChangesMojo {
     @Parameter(property = "changes.skipSnapshots", defaultValue = "false")
     private boolean skipSnapshots;
 
+    /**
+     * Cache of the parsed changes.xml files, shared by the goals of a build.
+     */
+    private final ChangesXMLCache changesXmlCache;
+
+    @Inject
+    public ChangesCheckMojo(ChangesXMLCache changesXmlCache) {
+        this.changesXmlCache = changesXmlCache;
+    }
+
     /**
      * Check that the latest release contains a valid release date.
      *
@@ -86,8 +101,7 @@ public class ChangesCheckMojo extends AbstractChangesMojo {
             if (this.version.endsWith("-SNAPSHOT") && this.skipSnapshots) {
                 getLog().info("Skipping snapshot version '" + this.version + "'.");
             } else if (xmlPath.exists()) {
-                ChangesXML xml = new ChangesXML(xmlPath, getLog());
-                Release release = ReleaseUtils.getLatestRelease(xml.getReleaseList(), version);
+                Release release = findRelease();
 
                 if (!isValidDate(release.getDateRelease(), releaseDateFormat, releaseDateLocale)) {
                     throw new MojoExecutionException(
@@ -99,6 +113,35 @@ public class ChangesCheckMojo extends AbstractChangesMojo {
         }
     }
 
+    /**
+     * Reads the release of the current version, without reading the releases after it unless the file has already been
+     * parsed in this build.
+     */
+    private Release findRelease() throws MojoExecutionException {
+        ChangesDocument document;
+        try {
+            document = changesXmlCache.getIfCached(xmlPath);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to read the file " + xmlPath.getAbsolutePath(), e);
+        }
+        if (document != null && document.getBody() != null) {
+            return ReleaseUtils.getLatestRelease(document.getBody().getReleases(), version);
+        }
+
+        Release release;
+        try (ChangesStreamReader reader = new ChangesStreamReader(xmlPath)) {
+            release = reader.findRelease(ReleaseUtils.getReleaseVersion(version));
+        } catch (IOException | XmlPullParserException e) {
+            throw new MojoExecutionException("Failed to read the file " + xmlPath.getAbsolutePath(), e);
+        }
+        if (release == null) {
+            // fails listing the releases of the file
+            ChangesXML xml = new ChangesXML(xmlPath, getLog());
+            release = ReleaseUtils.getLatestRelease(xml.getReleaseList(), version);
+        }
+        return release;
+    }
+
     /**
      * Use the pattern to try to parse a Date from the given string. Kept for backward compatibility with existing unit
      * tests.
@@ -34,7 +34,7 @@ import org.apache.maven.shared.filtering.MavenFileFilter;
 public class ChangesDeprecatedReport extends ChangesReport {
 
     @Inject
-    public ChangesDeprecatedReport(MavenFileFilter mavenFileFilter) {
-        super(mavenFileFilter);
+    public ChangesDeprecatedReport(MavenFileFilter mavenFileFilter, ChangesXMLCache changesXmlCache) {
+        super(mavenFileFilter, changesXmlCache);
     }
 }
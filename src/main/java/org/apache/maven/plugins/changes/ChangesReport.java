@@ -28,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
@@ -36,6 +37,10 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.commons.io.input.XmlStreamReader;
@@ -66,6 +71,16 @@ public class ChangesReport extends AbstractChangesReport {
     @Parameter(defaultValue = "false")
     private boolean aggregated;
 
+    /**
+     * Number of child modules whose <code>changes.xml</code> files are filtered and parsed concurrently when
+     * <code>aggregated</code> is set. Their releases are still merged in the order of the modules. The default of
+     * <code>1</code> reads the files sequentially.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.aggregatedConcurrency", defaultValue = "1")
+    private int aggregatedConcurrency;
+
     /**
      * A flag whether the report should also include the dates of individual actions. If set to <code>false</code>, only
      * the dates of releases will be written to the report.
@@ -187,9 +202,15 @@ public class ChangesReport extends AbstractChangesReport {
 
     private final MavenFileFilter mavenFileFilter;
 
+    /**
+     * Cache of the parsed changes.xml files, shared by the modules of a build.
+     */
+    private final ChangesXMLCache changesXmlCache;
+
     @Inject
-    public ChangesReport(MavenFileFilter mavenFileFilter) {
+    public ChangesReport(MavenFileFilter mavenFileFilter, ChangesXMLCache changesXmlCache) {
         this.mavenFileFilter = mavenFileFilter;
+        this.changesXmlCache = changesXmlCache;
     }
 
     /* --------------------------------------------------------------------- */
@@ -227,16 +248,8 @@ public class ChangesReport extends AbstractChangesReport {
             }
             final String relativePath = absolutePath.substring(basePath.length());
 
-            List<Release> releaseList = changesXml.getReleaseList();
-            for (MavenProject childProject : project.getCollectedProjects()) {
-                final File changesFile = new File(childProject.getBasedir(), relativePath);
-                final ChangesXML childXml = getChangesFromFile(changesFile, childProject, additionalProperties);
-                if (childXml != null) {
-                    releaseList =
-                            ReleaseUtils.mergeReleases(releaseList, childProject.getName(), childXml.getReleaseList());
-                }
-            }
-            changesXml.setReleaseList(releaseList);
+            changesXml.setReleaseList(mergeChildReleases(
+                    changesXml.getReleaseList(), project.getCollectedProjects(), relativePath, additionalProperties));
         }
 
         ChangesReportRenderer report = new ChangesReportRenderer(getSink(), getBundle(locale), changesXml);
@@ -369,7 +382,91 @@ public class ChangesReport extends AbstractChangesReport {
                 throw new MavenReportException("Exception during filtering changes file : " + e.getMessage(), e);
             }
         }
-        return new ChangesXML(changesXml, getLog());
+        return new ChangesXML(changesXml, getLog(), changesXmlCache);
+    }
+
+    /**
+     * Merges the releases of the changes.xml files of the child modules into the given releases, in the order of the
+     * modules.
+     *
+     * @param releaseList the releases of this project
+     * @param childProjects the child modules
+     * @param relativePath the path of the changes.xml file of a module, relative to its base directory
+     * @param additionalProperties additional properties used for filtering
+     * @return the merged releases
+     * @throws MavenReportException if a changes.xml file cannot be filtered
+     */
+    List<Release> mergeChildReleases(
+            List<Release> releaseList,
+            List<MavenProject> childProjects,
+            String relativePath,
+            Properties additionalProperties)
+            throws MavenReportException {
+        List<ChangesXML> childXmls = getChildChanges(childProjects, relativePath, additionalProperties);
+        for (int i = 0; i < childProjects.size(); i++) {
+            final ChangesXML childXml = childXmls.get(i);
+            if (childXml != null) {
+                releaseList = ReleaseUtils.mergeReleases(
+                        releaseList, childProjects.get(i).getName(), childXml.getReleaseList());
+            }
+        }
+        return releaseList;
+    }
+
+    /**
+     * Filters and parses the changes.xml files of the child modules, concurrently if
+     * <code>aggregatedConcurrency</code> allows it.
+     *
+     * @return the parsed files, in the order of the child modules, with <code>null</code> for the missing ones
+     */
+    private List<ChangesXML> getChildChanges(
+            List<MavenProject> childProjects, String relativePath, Properties additionalProperties)
+            throws MavenReportException {
+        List<ChangesXML> childXmls = new ArrayList<>(childProjects.size());
+        if (aggregatedConcurrency <= 1 || childProjects.size() <= 1) {
+            for (MavenProject childProject : childProjects) {
+                final File changesFile = new File(childProject.getBasedir(), relativePath);
+                childXmls.add(getChangesFromFile(changesFile, childProject, additionalProperties));
+            }
+            return childXmls;
+        }
+
+        if (filteringChanges && !filteredOutputDirectory.exists()) {
+            filteredOutputDirectory.mkdirs();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(aggregatedConcurrency, childProjects.size()));
+        try {
+            List<Future<ChangesXML>> futures = new ArrayList<>(childProjects.size());
+            for (MavenProject childProject : childProjects) {
+                final File changesFile = new File(childProject.getBasedir(), relativePath);
+                futures.add(executor.submit(() -> getChangesFromFile(changesFile, childProject, additionalProperties)));
+            }
+            for (Future<ChangesXML> future : futures) {
+                childXmls.add(getResult(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return childXmls;
+    }
+
+    private static <T> T getResult(Future<T> future) throws MavenReportException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenReportException("Interrupted while reading the changes files of the child modules", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof MavenReportException) {
+                throw (MavenReportException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MavenReportException(cause.getMessage(), (Exception) cause);
+        }
     }
 
     private void copyStaticResources() throws MavenReportException {
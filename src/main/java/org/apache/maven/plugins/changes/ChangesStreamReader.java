@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.apache.commons.io.input.XmlStreamReader;
+import org.apache.maven.plugins.changes.model.ChangesDocument;
+import org.apache.maven.plugins.changes.model.Properties;
+import org.apache.maven.plugins.changes.model.Release;
+import org.apache.maven.plugins.changes.model.io.xpp3.ChangesXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.EntityReplacementMap;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * Reads the releases of a changes.xml file one at a time, instead of the whole document at once. The releases that
+ * are not needed are skipped without being materialized, which matters for files covering many years of releases.
+ * <p>
+ * Only the structure of the document is walked here: the elements of the properties and of each needed release are
+ * copied to a document of their own, which the generated non-strict <code>ChangesXpp3Reader</code> parses, so they are
+ * read exactly like the whole document would be.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+public class ChangesStreamReader implements Closeable {
+
+    private final Reader reader;
+
+    private final XmlPullParser parser;
+
+    private final ChangesXpp3Reader modelReader = new ChangesXpp3Reader();
+
+    private Properties properties;
+
+    /** Whether the parser is inside the body, between its releases. */
+    private boolean inBody;
+
+    /**
+     * Opens a changes.xml file and reads its properties.
+     *
+     * @param file the changes.xml file
+     * @throws IOException if the file cannot be read
+     * @throws XmlPullParserException if the file is not a well-formed changes.xml file
+     */
+    public ChangesStreamReader(File file) throws IOException, XmlPullParserException {
+        this(XmlStreamReader.builder().setFile(file).get());
+    }
+
+    /**
+     * Starts reading a changes.xml document and reads its properties.
+     *
+     * @param reader the document, closed with this reader
+     * @throws IOException if the document cannot be read
+     * @throws XmlPullParserException if the document is not a well-formed changes.xml document
+     */
+    public ChangesStreamReader(Reader reader) throws IOException, XmlPullParserException {
+        this.reader = reader;
+        parser = new MXParser(EntityReplacementMap.defaultEntityReplacementMap);
+        try {
+            parser.setInput(reader);
+            int eventType = parser.getEventType();
+            while (eventType != XmlPullParser.START_TAG) {
+                if (eventType == XmlPullParser.END_DOCUMENT) {
+                    throw new XmlPullParserException(
+                            "Expected root element 'document' but found no element at all", parser, null);
+                }
+                eventType = parser.next();
+            }
+            readDocument();
+        } catch (IOException | XmlPullParserException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a changes.xml file lazily: its releases are only read from the file when the returned list gets to them.
+     * The file is closed once the list has been read to its end or a release cannot be read, or when the list is
+     * closed.
+     *
+     * @param file the changes.xml file
+     * @return the releases, in the order of the file
+     * @throws IOException if the file cannot be read
+     * @throws XmlPullParserException if the file is not a well-formed changes.xml file
+     * @throws ChangesXMLRuntimeException if a release cannot be read, when the list gets to it
+     */
+    public static ReleaseList readReleases(File file) throws IOException, XmlPullParserException {
+        return new ReleaseList(new ChangesStreamReader(file));
+    }
+
+    /**
+     * @return the properties of the document, or <code>null</code> if it has none before its releases
+     */
+    public Properties getProperties() {
+        return properties;
+    }
+
+    /**
+     * Reads the next release.
+     *
+     * @return the release, or <code>null</code> if there are no more releases
+     * @throws IOException if the document cannot be read
+     * @throws XmlPullParserException if the document is not a well-formed changes.xml document
+     */
+    public Release nextRelease() throws IOException, XmlPullParserException {
+        while (inBody) {
+            if (nextTag() == XmlPullParser.END_TAG) {
+                inBody = false;
+                readDocument();
+            } else if ("release".equals(parser.getName())) {
+                return parseRelease();
+            } else {
+                skipElement();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next release with the given version, skipping the releases before it without materializing them.
+     *
+     * @param version the version of the release
+     * @return the release, or <code>null</code> if there is no such release in the rest of the document
+     * @throws IOException if the document cannot be read
+     * @throws XmlPullParserException if the document is not a well-formed changes.xml document
+     */
+    public Release findRelease(String version) throws IOException, XmlPullParserException {
+        while (inBody) {
+            if (nextTag() == XmlPullParser.END_TAG) {
+                inBody = false;
+                readDocument();
+            } else if ("release".equals(parser.getName()) && version.equals(getVersion())) {
+                return parseRelease();
+            } else {
+                skipElement();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the children of the root element up to the start of the body, or up to the end of the document.
+     */
+    private void readDocument() throws IOException, XmlPullParserException {
+        while (nextTag() == XmlPullParser.START_TAG) {
+            if ("body".equals(parser.getName())) {
+                inBody = true;
+                return;
+            } else if ("properties".equals(parser.getName())) {
+                properties = parseDocument("<document>", "</document>").getProperties();
+            } else {
+                skipElement();
+            }
+        }
+    }
+
+    private String getVersion() {
+        String version = parser.getAttributeValue(null, "version");
+        return version == null ? null : version.trim();
+    }
+
+    /**
+     * Parses the current <code>release</code> element, leaving the parser on its end tag.
+     */
+    private Release parseRelease() throws IOException, XmlPullParserException {
+        return parseDocument("<document><body>", "</body></document>")
+                .getBody()
+                .getReleases()
+                .get(0);
+    }
+
+    /**
+     * Parses the current element with the generated reader, as the content of a document of its own. The parser is
+     * left on the end tag of the element.
+     *
+     * @param prefix the start of the document, up to the element
+     * @param suffix the end of the document, after the element
+     */
+    private ChangesDocument parseDocument(String prefix, String suffix) throws IOException, XmlPullParserException {
+        StringBuilder xml = new StringBuilder(prefix);
+        copyElement(xml);
+        xml.append(suffix);
+        return modelReader.read(new StringReader(xml.toString()), false);
+    }
+
+    /**
+     * Copies the current element and its content, with the entities already replaced by the parser.
+     */
+    private void copyElement(StringBuilder xml) throws IOException, XmlPullParserException {
+        int eventType = XmlPullParser.START_TAG;
+        for (int depth = 0; ; eventType = parser.next()) {
+            if (eventType == XmlPullParser.START_TAG) {
+                depth++;
+                xml.append('<').append(parser.getName());
+                for (int i = 0; i < parser.getAttributeCount(); i++) {
+                    xml.append(' ').append(parser.getAttributeName(i)).append("=\"");
+                    escape(parser.getAttributeValue(i), xml);
+                    xml.append('"');
+                }
+                xml.append('>');
+            } else if (eventType == XmlPullParser.END_TAG) {
+                xml.append("</").append(parser.getName()).append('>');
+                if (--depth == 0) {
+                    return;
+                }
+            } else if (eventType == XmlPullParser.TEXT) {
+                escape(parser.getText(), xml);
+            }
+        }
+    }
+
+    private static void escape(String text, StringBuilder xml) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&') {
+                xml.append("&amp;");
+            } else if (c == '<') {
+                xml.append("&lt;");
+            } else if (c == '>') {
+                xml.append("&gt;");
+            } else if (c == '"') {
+                xml.append("&quot;");
+            } else {
+                xml.append(c);
+            }
+        }
+    }
+
+    /**
+     * Moves to the next start or end tag, skipping the text before it like the non-strict generated reader does.
+     */
+    private int nextTag() throws IOException, XmlPullParserException {
+        int eventType = parser.next();
+        if (eventType == XmlPullParser.TEXT) {
+            eventType = parser.next();
+        }
+        if (eventType != XmlPullParser.START_TAG && eventType != XmlPullParser.END_TAG) {
+            throw new XmlPullParserException(
+                    "expected START_TAG or END_TAG not " + XmlPullParser.TYPES[eventType], parser, null);
+        }
+        return eventType;
+    }
+
+    /**
+     * Skips the current element and its content.
+     */
+    private void skipElement() throws IOException, XmlPullParserException {
+        for (int depth = 1; depth > 0; ) {
+            int eventType = parser.next();
+            if (eventType == XmlPullParser.START_TAG) {
+                depth++;
+            } else if (eventType == XmlPullParser.END_TAG) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * A list that reads its releases from a changes.xml document when it gets to them.
+     */
+    public static class ReleaseList extends AbstractList<Release> implements Closeable {
+        private final List<Release> releases = new ArrayList<>();
+
+        /** The reader of the remaining releases, <code>null</code> once they have all been read or it is closed. */
+        private ChangesStreamReader reader;
+
+        private boolean closed;
+
+        ReleaseList(ChangesStreamReader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the releases up to the given index.
+         *
+         * @return <code>true</code> if there is a release at the index
+         */
+        private synchronized boolean readUpTo(int index) {
+            while (releases.size() <= index) {
+                if (reader == null) {
+                    if (closed) {
+                        throw new IllegalStateException("The releases have been closed before being read");
+                    }
+                    break;
+                }
+                Release release;
+                try {
+                    release = reader.nextRelease();
+                } catch (IOException | XmlPullParserException e) {
+                    closeReader();
+                    throw new ChangesXMLRuntimeException("An error occurred when parsing the changes.xml file", e);
+                }
+                if (release == null) {
+                    closeReader();
+                } else {
+                    releases.add(release);
+                }
+            }
+            return index < releases.size();
+        }
+
+        private void closeReader() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                // nothing more is read from it
+            }
+            reader = null;
+        }
+
+        /**
+         * Closes the document if the releases have not all been read. The releases read so far are kept.
+         */
+        @Override
+        public synchronized void close() {
+            if (reader != null) {
+                closeReader();
+                closed = true;
+            }
+        }
+
+        @Override
+        public synchronized Release get(int index) {
+            if (!readUpTo(index)) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + releases.size());
+            }
+            return releases.get(index);
+        }
+
+        @Override
+        public synchronized int size() {
+            readUpTo(Integer.MAX_VALUE - 1);
+            return releases.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return !readUpTo(0);
+        }
+
+        @Override
+        public Iterator<Release> iterator() {
+            // unlike the iterator of AbstractList, it does not need the size of the list
+            return new Iterator<Release>() {
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return readUpTo(cursor);
+                }
+
+                @Override
+                public Release next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return get(cursor++);
+                }
+            };
+        }
+    }
+}
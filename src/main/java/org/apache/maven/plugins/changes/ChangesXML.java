@@ -60,6 +60,19 @@ public class ChangesXML {
      * @throws ChangesXMLRuntimeException if there was a fatal error while parsing the changes.xml file
      */
     public ChangesXML(File xmlPath, Log log) throws ChangesXMLRuntimeException {
+        this(xmlPath, log, null);
+    }
+
+    /**
+     * Constructor that sets the changes.xml file and the logger, and gets the parsed file from a cache.
+     *
+     * @param xmlPath the changes.xml file
+     * @param log the logger
+     * @param cache the cache of the parsed changes.xml files, or <code>null</code> to always parse the file
+     * @throws ChangesXMLRuntimeException if there was a fatal error while parsing the changes.xml file
+     * @since 3.0.0
+     */
+    public ChangesXML(File xmlPath, Log log, ChangesXMLCache cache) throws ChangesXMLRuntimeException {
 
         if (xmlPath == null || !xmlPath.exists()) {
             log.error("changes xml file is null or not exists ");
@@ -68,10 +81,14 @@ public class ChangesXML {
 
         try {
 
-            ChangesXpp3Reader reader = new ChangesXpp3Reader();
+            if (cache != null) {
+                changesDocument = cache.get(xmlPath);
+            } else {
+                ChangesXpp3Reader reader = new ChangesXpp3Reader();
 
-            try (FileInputStream fileInputStream = new FileInputStream(xmlPath)) {
-                changesDocument = reader.read(fileInputStream, false);
+                try (FileInputStream fileInputStream = new FileInputStream(xmlPath)) {
+                    changesDocument = reader.read(fileInputStream, false);
+                }
             }
 
             if (changesDocument == null) {
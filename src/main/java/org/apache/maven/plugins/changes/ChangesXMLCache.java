@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugins.changes.model.Body;
+import org.apache.maven.plugins.changes.model.ChangesDocument;
+import org.apache.maven.plugins.changes.model.Release;
+import org.apache.maven.plugins.changes.model.io.xpp3.ChangesXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+/**
+ * Keeps the parsed changes.xml files, so that the goals and the modules of a build do not parse the same file again.
+ * An entry is only used while the file keeps its size, modification time and content. The least recently used entries
+ * are dropped once the cache is full, so that a long-lived JVM does not keep every file it has ever parsed.
+ * <p>
+ * Callers get their own copy of the releases, which they can merge with other releases without changing the cached
+ * ones.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class ChangesXMLCache {
+
+    /** The default number of parsed files kept, enough for the changes.xml files of a large reactor. */
+    static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private final Map<String, CachedFile> entries;
+
+    /**
+     * A parsed file, with what identifies the version of the file it was parsed from.
+     */
+    private static class CachedFile {
+        private final long size;
+
+        private final long lastModified;
+
+        private final String checksum;
+
+        private final ChangesDocument document;
+
+        CachedFile(long size, long lastModified, String checksum, ChangesDocument document) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+            this.document = document;
+        }
+    }
+
+    public ChangesXMLCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries the number of parsed files kept
+     */
+    ChangesXMLCache(int maxEntries) {
+        entries = Collections.synchronizedMap(new LinkedHashMap<String, CachedFile>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFile> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Gets a parsed changes.xml file, parsing it if it is not cached yet or has changed since.
+     *
+     * @param file the changes.xml file
+     * @return a copy of the parsed file
+     * @throws IOException if the file cannot be read
+     * @throws XmlPullParserException if the file is not a well-formed changes.xml file
+     */
+    public ChangesDocument get(File file) throws IOException, XmlPullParserException {
+        String path = file.getCanonicalPath();
+        long size = file.length();
+        long lastModified = file.lastModified();
+
+        CachedFile entry = entries.get(path);
+        if (entry != null && entry.size == size && entry.lastModified == lastModified) {
+            return copy(entry.document);
+        }
+
+        // the file has been touched: it is only parsed again if its content changed
+        byte[] content = Files.readAllBytes(file.toPath());
+        String checksum = getChecksum(content);
+        ChangesDocument document;
+        if (entry == null || !entry.checksum.equals(checksum)) {
+            document = new ChangesXpp3Reader().read(new ByteArrayInputStream(content), false);
+        } else {
+            document = entry.document;
+        }
+        entries.put(path, new CachedFile(size, lastModified, checksum, document));
+        return copy(document);
+    }
+
+    /**
+     * Gets a parsed changes.xml file if it has already been parsed in this build and has not changed since, without
+     * parsing it otherwise.
+     *
+     * @param file the changes.xml file
+     * @return a copy of the parsed file, or <code>null</code> if it is not cached
+     * @throws IOException if the path of the file cannot be resolved
+     */
+    public ChangesDocument getIfCached(File file) throws IOException {
+        CachedFile entry = entries.get(file.getCanonicalPath());
+        if (entry != null && entry.size == file.length() && entry.lastModified == file.lastModified()) {
+            return copy(entry.document);
+        }
+        return null;
+    }
+
+    /**
+     * Copies a document down to its release lists, which are modified when releases are merged. The actions are
+     * shared.
+     */
+    private static ChangesDocument copy(ChangesDocument document) {
+        ChangesDocument copy = new ChangesDocument();
+        copy.setModelEncoding(document.getModelEncoding());
+        copy.setProperties(document.getProperties());
+        if (document.getBody() != null) {
+            List<Release> releases = new ArrayList<>();
+            for (Release release : document.getBody().getReleases()) {
+                Release releaseCopy = new Release();
+                releaseCopy.setVersion(release.getVersion());
+                releaseCopy.setDateRelease(release.getDateRelease());
+                releaseCopy.setDescription(release.getDescription());
+                releaseCopy.setActions(new ArrayList<>(release.getActions()));
+                releases.add(releaseCopy);
+            }
+            Body body = new Body();
+            body.setReleases(releases);
+            copy.setBody(body);
+        }
+        return copy;
+    }
+
+    private static String getChecksum(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest(content)) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.changes.issues.IssueUtils;
 import org.apache.maven.plugins.changes.model.Action;
 import org.apache.maven.plugins.changes.model.Release;
 import org.slf4j.Logger;
@@ -36,8 +37,6 @@ import org.slf4j.LoggerFactory;
  * @since 2.4
  */
 public class ReleaseUtils {
-    private static final String SNAPSHOT_SUFFIX = "-SNAPSHOT";
-
     private static final Logger LOG = LoggerFactory.getLogger(ReleaseUtils.class);
 
     private ReleaseUtils() {
@@ -53,11 +52,11 @@ public class ReleaseUtils {
      * @throws org.apache.maven.plugin.MojoExecutionException If a release can't be found
      */
     public static Release getLatestRelease(List<Release> releases, String pomVersion) throws MojoExecutionException {
-        // Remove "-SNAPSHOT" from the end, if it's there
-        if (pomVersion != null && pomVersion.endsWith(SNAPSHOT_SUFFIX)) {
-            pomVersion = pomVersion.substring(0, pomVersion.length() - SNAPSHOT_SUFFIX.length());
+        pomVersion = getReleaseVersion(pomVersion);
+        if (LOG.isDebugEnabled()) {
+            // the releases may be read lazily, only count them when needed
+            LOG.debug("Found {} releases.", releases.size());
         }
-        LOG.debug("Found {} releases.", releases.size());
 
         Release release = getRelease(releases, pomVersion);
 
@@ -69,6 +68,20 @@ public class ReleaseUtils {
         return release;
     }
 
+    /**
+     * Get the version of the release matching the version from the pom.
+     *
+     * @param pomVersion Version of the artifact
+     * @return The version without its <code>-SNAPSHOT</code> suffix
+     */
+    public static String getReleaseVersion(String pomVersion) {
+        // Remove "-SNAPSHOT" from the end, if it's there
+        if (pomVersion != null && pomVersion.endsWith(IssueUtils.SNAPSHOT_SUFFIX)) {
+            return pomVersion.substring(0, pomVersion.length() - IssueUtils.SNAPSHOT_SUFFIX.length());
+        }
+        return pomVersion;
+    }
+
     /**
      * Get a release with the specified version from the list of releases.
      *
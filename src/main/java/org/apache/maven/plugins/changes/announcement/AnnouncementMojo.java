@@ -27,6 +27,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -34,17 +35,25 @@ import java.util.Map;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.changes.ChangesStreamReader;
 import org.apache.maven.plugins.changes.ChangesXML;
+import org.apache.maven.plugins.changes.ChangesXMLCache;
 import org.apache.maven.plugins.changes.IssueAdapter;
 import org.apache.maven.plugins.changes.ProjectUtils;
 import org.apache.maven.plugins.changes.ReleaseUtils;
+import org.apache.maven.plugins.changes.github.GitHubClientPool;
 import org.apache.maven.plugins.changes.github.GitHubDownloader;
 import org.apache.maven.plugins.changes.github.GitHubIssueManagementSystem;
+import org.apache.maven.plugins.changes.github.GitHubRateLimitGovernor;
 import org.apache.maven.plugins.changes.issues.Issue;
 import org.apache.maven.plugins.changes.issues.IssueManagementSystem;
 import org.apache.maven.plugins.changes.issues.IssueUtils;
 import org.apache.maven.plugins.changes.jira.JIRAIssueManagementSystem;
+import org.apache.maven.plugins.changes.jira.JiraCircuitBreaker;
+import org.apache.maven.plugins.changes.jira.JiraHttpClientPool;
+import org.apache.maven.plugins.changes.jira.JiraMetadataCache;
 import org.apache.maven.plugins.changes.jira.RestJiraDownloader;
+import org.apache.maven.plugins.changes.model.ChangesDocument;
 import org.apache.maven.plugins.changes.model.Release;
 import org.apache.maven.plugins.changes.trac.TracDownloader;
 import org.apache.maven.plugins.changes.trac.TracIssueManagmentSystem;
@@ -57,6 +66,7 @@ import org.apache.velocity.context.Context;
 import org.apache.velocity.exception.ResourceNotFoundException;
 import org.apache.velocity.exception.VelocityException;
 import org.apache.velocity.tools.ToolManager;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 import org.codehaus.plexus.velocity.VelocityComponent;
 
 /**
@@ -76,6 +86,12 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
 
     private static final String GIT_HUB = "GitHub";
 
+    /**
+     * The JIRA issue fields read by {@link IssueAdapter} when turning issues into releases.
+     */
+    private static final List<String> JIRA_FIELDS =
+            Arrays.asList("assignee", "fixVersions", "issuetype", "reporter", "summary");
+
     /**
      * The name of the file which will contain the generated announcement. If no value is specified, the plugin will use
      * the name of the template.
@@ -275,6 +291,81 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
     @Parameter(property = "changes.maxEntries", defaultValue = "25", required = true)
     private int maxEntries;
 
+    /**
+     * Number of issues requested from JIRA per search page. Issues are downloaded page by page until
+     * <code>maxEntries</code> issues have been fetched or the result set is exhausted. JIRA may cap the page size on
+     * its side, which is taken into account.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraPageSize", defaultValue = "50")
+    private int jiraPageSize;
+
+    /**
+     * Number of JIRA search pages fetched concurrently once the first page has returned the size of the result set.
+     * Pages are still reassembled in JQL order. The default of <code>1</code> fetches pages sequentially.
+     * <p>
+     * This also sizes the pool of keep-alive connections to JIRA, which is shared with the other modules of the build
+     * together with the authenticated session, and always has room for at least six connections.
+     * </p>
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraConcurrency", defaultValue = "1")
+    private int jiraConcurrency;
+
+    /**
+     * If set to <code>true</code>, the issues downloaded from JIRA are cached in <code>jiraCacheDirectory</code>. Later
+     * executions with the same JIRA URL, project and query only download the issues that have been updated since the
+     * previous execution, and merge them into the cached issues. The cache is downloaded completely once a day, to pick
+     * up changes that JIRA does not record as an update, like deleted issues.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraCache", defaultValue = "false")
+    private boolean jiraCache;
+
+    /**
+     * The directory where JIRA issues are cached when <code>jiraCache</code> is enabled. The default location is shared
+     * by all the modules of a build and survives <code>mvn clean</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraCacheDirectory", defaultValue = "${user.home}/.m2/changes-cache/jira")
+    private File jiraCacheDirectory;
+
+    /**
+     * The number of seconds the JIRA metadata used to resolve names to ids (components, versions, statuses, resolutions,
+     * issue types and priorities) is reused before it is downloaded again. The metadata is shared by all the modules of
+     * a build and, when <code>jiraCache</code> is enabled, persisted in <code>jiraCacheDirectory</code> together with
+     * its <code>ETag</code> and <code>Last-Modified</code> headers, so that expired metadata is only downloaded again
+     * if JIRA reports that it has changed. Set to <code>0</code> to always check it.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraMetadataCacheTtl", defaultValue = "3600")
+    private int jiraMetadataCacheTtl;
+
+    /**
+     * The number of times a request to JIRA that failed with a network error or a transient error status, like
+     * <code>429 Too Many Requests</code> or <code>503 Service Unavailable</code>, is retried. The delay between the
+     * attempts grows exponentially, or follows the <code>Retry-After</code> header sent by JIRA. Set to <code>0</code>
+     * to disable retries.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraMaxRetries", defaultValue = "3")
+    private int jiraMaxRetries;
+
+    /**
+     * The number of retries that all the modules of a build may make together against one JIRA server. Once JIRA has
+     * failed repeatedly, the following requests fail at once for a few minutes instead of waiting for time-outs.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraRetryBudget", defaultValue = "20")
+    private int jiraRetryBudget;
+
     /**
      * If you only want to show issues from JIRA for the current version in the report. The current version being used is
      * <code>${project.version}</code> minus any "-SNAPSHOT" suffix.
@@ -390,6 +481,49 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
     @Parameter(property = "changes.tracUser")
     private String tracUser;
 
+    /**
+     * The number of tickets fetched from Trac with one <code>system.multicall</code> request. Set to <code>1</code>
+     * to fetch the tickets one by one, which is also done automatically for servers that do not support multicalls.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracBatchSize", defaultValue = "100")
+    private int tracBatchSize;
+
+    /**
+     * The number of concurrent requests fetching the tickets, or their batches, from Trac. Set to <code>1</code> to
+     * fetch them sequentially.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracConcurrency", defaultValue = "1")
+    private int tracConcurrency;
+
+    /**
+     * Defines the connection timeout in milliseconds when accessing Trac's XML-RPC API.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracConnectionTimeout", defaultValue = "36000")
+    private int tracConnectionTimeout;
+
+    /**
+     * Defines the receive timeout in milliseconds when accessing Trac's XML-RPC API.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracReceiveTimeout", defaultValue = "32000")
+    private int tracReceiveTimeout;
+
+    /**
+     * Whether to ask Trac for gzip compressed responses. Turn it off if compressing the responses takes Trac longer
+     * than transferring them.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracCompression", defaultValue = "true")
+    private boolean tracCompression;
+
     // =======================================//
     // Github Parameters //
     // =======================================//
@@ -411,6 +545,64 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
     @Parameter(defaultValue = "false")
     private boolean includeOpenIssues;
 
+    /**
+     * Boolean which says if we should include github pull requests in the announcement. GitHub lists them together
+     * with the issues.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(defaultValue = "true")
+    private boolean includePullRequests;
+
+    /**
+     * The GitHub API the issues are downloaded with: <code>rest</code>, or <code>graphql</code> which only downloads
+     * the fields used by the plugin and needs far fewer requests for large repositories. The GraphQL API requires a
+     * token, configured in the server referenced by <code>githubAPIServerId</code>, and never lists pull requests.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubApi", defaultValue = "rest")
+    private String githubApi;
+
+    /**
+     * The number of requests of the GitHub rate limit that are kept in reserve for other tools using the same token.
+     * Once only the reserve is left, requests are deferred until GitHub resets the rate limit, instead of failing.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubRateLimitReserve", defaultValue = "50")
+    private int githubRateLimitReserve;
+
+    /**
+     * The longest time in seconds to wait for GitHub to reset the rate limit, once only the reserve of
+     * <code>githubRateLimitReserve</code> requests is left. If the reset is further away, the build fails at once
+     * instead. Set to <code>0</code> to never wait.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubRateLimitMaxWait", defaultValue = "900")
+    private int githubRateLimitMaxWait;
+
+    /**
+     * If set to <code>true</code>, the responses of the GitHub API are cached in <code>githubCacheDirectory</code>
+     * together with their <code>ETag</code> and <code>Last-Modified</code> headers. Later executions send these
+     * validators, so that GitHub answers <code>304 Not Modified</code> for unchanged pages instead of sending them
+     * again. Such answers do not count against the GitHub rate limit.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubCache", defaultValue = "false")
+    private boolean githubCache;
+
+    /**
+     * The directory where GitHub API responses are cached when <code>githubCache</code> is enabled. The default
+     * location is shared by all the modules of a build and survives <code>mvn clean</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubCacheDirectory", defaultValue = "${user.home}/.m2/changes-cache/github")
+    private File githubCacheDirectory;
+
     private ChangesXML xml;
 
     /**
@@ -423,11 +615,57 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
      */
     private final SettingsDecrypter settingsDecrypter;
 
+    /**
+     * Cache of the JIRA metadata, shared by the modules of a build.
+     */
+    private final JiraMetadataCache jiraMetadataCache;
+
+    /**
+     * Pool of the HTTP clients used to talk to JIRA, shared by the modules of a build.
+     */
+    private final JiraHttpClientPool jiraClientPool;
+
+    /**
+     * Circuit breaker of the JIRA servers, shared by the modules of a build.
+     */
+    private final JiraCircuitBreaker jiraCircuitBreaker;
+
+    /**
+     * Pool of the GitHub clients, shared by the modules of a build.
+     */
+    private final GitHubClientPool githubClientPool;
+
+    /**
+     * Governor of the GitHub rate limits, shared by the modules of a build.
+     */
+    private final GitHubRateLimitGovernor githubRateLimitGovernor;
+
+    /**
+     * Cache of the parsed changes.xml files, shared by the goals of a build.
+     */
+    private final ChangesXMLCache changesXmlCache;
+
+    // CHECKSTYLE_OFF: ParameterNumber
     @Inject
-    public AnnouncementMojo(VelocityComponent velocity, SettingsDecrypter settingsDecrypter) {
+    public AnnouncementMojo(
+            VelocityComponent velocity,
+            SettingsDecrypter settingsDecrypter,
+            JiraMetadataCache jiraMetadataCache,
+            JiraHttpClientPool jiraClientPool,
+            JiraCircuitBreaker jiraCircuitBreaker,
+            GitHubClientPool githubClientPool,
+            GitHubRateLimitGovernor githubRateLimitGovernor,
+            ChangesXMLCache changesXmlCache) {
         this.velocity = velocity;
         this.settingsDecrypter = settingsDecrypter;
+        this.jiraMetadataCache = jiraMetadataCache;
+        this.jiraClientPool = jiraClientPool;
+        this.jiraCircuitBreaker = jiraCircuitBreaker;
+        this.githubClientPool = githubClientPool;
+        this.githubRateLimitGovernor = githubRateLimitGovernor;
+        this.changesXmlCache = changesXmlCache;
     }
+    // CHECKSTYLE_ON: ParameterNumber
 
     // =======================================//
     // announcement-generate execution //
@@ -451,72 +689,92 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
                 issueManagementSystems.add(CHANGES_XML);
             }
 
-            // Fetch releases from the configured issue management systems
-            List<Release> releases = null;
-            if (issueManagementSystems.contains(CHANGES_XML)) {
-                if (getXmlPath().exists()) {
-                    ChangesXML changesXML = new ChangesXML(getXmlPath(), getLog());
-                    List<Release> changesReleases = changesXML.getReleaseList();
-                    releases = ReleaseUtils.mergeReleases(null, changesReleases);
-                    getLog().info("Including issues from file " + getXmlPath() + " in announcement...");
-                } else {
-                    getLog().warn("changes.xml file " + getXmlPath().getAbsolutePath() + " does not exist.");
+            // the changes.xml file is read until the announcement has been generated
+            ChangesStreamReader.ReleaseList streamedReleases = null;
+            try {
+                // Fetch releases from the configured issue management systems
+                List<Release> releases = null;
+                if (issueManagementSystems.contains(CHANGES_XML)) {
+                    if (getXmlPath().exists()) {
+                        // unless the file has already been parsed in this build, the releases are only read as far as
+                        // needed to find the one announced
+                        List<Release> changesReleases;
+                        try {
+                            ChangesDocument document = changesXmlCache.getIfCached(getXmlPath());
+                            if (document != null && document.getBody() != null) {
+                                changesReleases = document.getBody().getReleases();
+                            } else {
+                                streamedReleases = ChangesStreamReader.readReleases(getXmlPath());
+                                changesReleases = streamedReleases;
+                            }
+                        } catch (IOException | XmlPullParserException e) {
+                            throw new MojoExecutionException("Failed to read the file " + getXmlPath(), e);
+                        }
+                        releases = ReleaseUtils.mergeReleases(null, changesReleases);
+                        getLog().info("Including issues from file " + getXmlPath() + " in announcement...");
+                    } else {
+                        getLog().warn("changes.xml file " + getXmlPath().getAbsolutePath() + " does not exist.");
+                    }
                 }
-            }
 
-            if (issueManagementSystems.contains(JIRA)) {
-                String message = ProjectUtils.validateIssueManagement(project, JIRA, "JIRA announcement");
-                if (message == null) {
-                    List<Release> jiraReleases = getJiraReleases();
-                    releases = ReleaseUtils.mergeReleases(releases, jiraReleases);
-                    getLog().info("Including issues from JIRA in announcement...");
-                } else {
-                    throw new MojoExecutionException(
-                            "Something is wrong with the Issue Management section. " + message);
+                if (issueManagementSystems.contains(JIRA)) {
+                    String message = ProjectUtils.validateIssueManagement(project, JIRA, "JIRA announcement");
+                    if (message == null) {
+                        List<Release> jiraReleases = getJiraReleases();
+                        releases = ReleaseUtils.mergeReleases(releases, jiraReleases);
+                        getLog().info("Including issues from JIRA in announcement...");
+                    } else {
+                        throw new MojoExecutionException(
+                                "Something is wrong with the Issue Management section. " + message);
+                    }
                 }
-            }
 
-            if (issueManagementSystems.contains(TRAC)) {
-                getLog().warn(
-                                "Trac integration is prepared for removal in next major version due to lack of maintainers");
-                String message = ProjectUtils.validateIssueManagement(project, TRAC, "Trac announcement");
-                if (message == null) {
-                    List<Release> tracReleases = getTracReleases();
-                    releases = ReleaseUtils.mergeReleases(releases, tracReleases);
-                    getLog().info("Including issues from Trac in announcement...");
-                } else {
-                    throw new MojoExecutionException(
-                            "Something is wrong with the Issue Management section. " + message);
+                if (issueManagementSystems.contains(TRAC)) {
+                    getLog().warn(
+                                    "Trac integration is prepared for removal in next major version due to lack of maintainers");
+                    String message = ProjectUtils.validateIssueManagement(project, TRAC, "Trac announcement");
+                    if (message == null) {
+                        List<Release> tracReleases = getTracReleases();
+                        releases = ReleaseUtils.mergeReleases(releases, tracReleases);
+                        getLog().info("Including issues from Trac in announcement...");
+                    } else {
+                        throw new MojoExecutionException(
+                                "Something is wrong with the Issue Management section. " + message);
+                    }
                 }
-            }
 
-            if (issueManagementSystems.contains(GIT_HUB)) {
-                String message = ProjectUtils.validateIssueManagement(project, GIT_HUB, "GitHub announcement");
-                if (message == null) {
-                    List<Release> gitHubReleases = getGitHubReleases();
-                    releases = ReleaseUtils.mergeReleases(releases, gitHubReleases);
-                    getLog().info("Including issues from GitHub in announcement...");
-                } else {
-                    throw new MojoExecutionException(
-                            "Something is wrong with the Issue Management section. " + message);
+                if (issueManagementSystems.contains(GIT_HUB)) {
+                    String message = ProjectUtils.validateIssueManagement(project, GIT_HUB, "GitHub announcement");
+                    if (message == null) {
+                        List<Release> gitHubReleases = getGitHubReleases();
+                        releases = ReleaseUtils.mergeReleases(releases, gitHubReleases);
+                        getLog().info("Including issues from GitHub in announcement...");
+                    } else {
+                        throw new MojoExecutionException(
+                                "Something is wrong with the Issue Management section. " + message);
+                    }
                 }
-            }
 
-            // @todo Add more issue management systems here.
+                // @todo Add more issue management systems here.
 
-            // Follow these steps:
-            // 1. Add a constant for the name of the issue management system
-            // 2. Add the @parameters needed to configure the issue management system
-            // 3. Add a protected List get<IMSname>Releases() method that retrieves a list of releases
-            // 4. Merge those releases into the "releases" variable
-            // For help with these steps, you can have a look at how this has been done for JIRA or Trac
+                // Follow these steps:
+                // 1. Add a constant for the name of the issue management system
+                // 2. Add the @parameters needed to configure the issue management system
+                // 3. Add a protected List get<IMSname>Releases() method that retrieves a list of releases
+                // 4. Merge those releases into the "releases" variable
+                // For help with these steps, you can have a look at how this has been done for JIRA or Trac
 
-            // Generate the report
-            if (releases == null || releases.isEmpty()) {
-                throw new MojoExecutionException(
-                        "No releases found in any of the " + "configured issue management systems.");
-            } else {
-                doGenerate(releases);
+                // Generate the report
+                if (releases == null || releases.isEmpty()) {
+                    throw new MojoExecutionException(
+                            "No releases found in any of the " + "configured issue management systems.");
+                } else {
+                    doGenerate(releases);
+                }
+            } finally {
+                if (streamedReleases != null) {
+                    streamedReleases.close();
+                }
             }
         }
     }
@@ -530,8 +788,10 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
     public void doGenerate(List<Release> releases) throws MojoExecutionException {
         String version = (versionPrefix == null ? "" : versionPrefix) + getVersion();
 
-        getLog().debug("Generating announcement for version [" + version + "]. Found these releases: "
-                + ReleaseUtils.toString(releases));
+        if (getLog().isDebugEnabled()) {
+            getLog().debug("Generating announcement for version [" + version + "]. Found these releases: "
+                    + ReleaseUtils.toString(releases));
+        }
 
         doGenerate(releases, ReleaseUtils.getLatestRelease(releases, version));
     }
@@ -648,6 +908,15 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
         jiraDownloader.setSettingsDecrypter(settingsDecrypter);
 
         jiraDownloader.setNbEntries(maxEntries);
+        jiraDownloader.setPageSize(jiraPageSize);
+        jiraDownloader.setConcurrency(jiraConcurrency);
+        jiraDownloader.setFields(JIRA_FIELDS);
+        jiraDownloader.setCacheDirectory(jiraCache ? jiraCacheDirectory : null);
+        jiraDownloader.setMetadataCache(jiraMetadataCache, jiraMetadataCacheTtl * 1000L);
+        jiraDownloader.setClientPool(jiraClientPool);
+        jiraDownloader.setMaxRetries(jiraMaxRetries);
+        jiraDownloader.setRetryBudget(jiraRetryBudget);
+        jiraDownloader.setCircuitBreaker(jiraCircuitBreaker);
         jiraDownloader.setOnlyCurrentVersion(onlyCurrentVersion);
         jiraDownloader.setVersionPrefix(versionPrefix);
 
@@ -705,6 +974,8 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
     protected List<Release> getTracReleases() throws MojoExecutionException {
         TracDownloader issueDownloader = new TracDownloader();
 
+        issueDownloader.setLog(getLog());
+
         issueDownloader.setProject(project);
 
         issueDownloader.setQuery(tracQuery);
@@ -713,8 +984,20 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
 
         issueDownloader.setTracUser(tracUser);
 
+        issueDownloader.setBatchSize(tracBatchSize);
+
+        issueDownloader.setConcurrency(tracConcurrency);
+
+        issueDownloader.setConnectionTimeout(tracConnectionTimeout);
+
+        issueDownloader.setReceiveTimeout(tracReceiveTimeout);
+
+        issueDownloader.setCompression(tracCompression);
+
         try {
-            return getReleases(issueDownloader.getIssueList(), new TracIssueManagmentSystem());
+            List<Issue> issueList = issueDownloader.getIssueList();
+            getLog().debug("Downloaded from Trac: " + issueDownloader.getDownloadStatistics());
+            return getReleases(issueList, new TracIssueManagmentSystem());
         } catch (Exception e) {
             throw new MojoExecutionException("Failed to extract issues from Trac.", e);
         }
@@ -722,11 +1005,24 @@ public class AnnouncementMojo extends AbstractAnnouncementMojo {
 
     protected List<Release> getGitHubReleases() throws MojoExecutionException {
         try {
-            GitHubDownloader issueDownloader = new GitHubDownloader(project, includeOpenIssues, true);
+            GitHubDownloader issueDownloader =
+                    GitHubDownloader.newInstance(githubApi, project, includeOpenIssues, true);
 
+            issueDownloader.setLog(getLog());
             issueDownloader.configureAuthentication(settingsDecrypter, githubAPIServerId, settings, getLog());
-
-            return getReleases(issueDownloader.getIssueList(), new GitHubIssueManagementSystem());
+            issueDownloader.setCacheDirectory(githubCache ? githubCacheDirectory : null);
+            issueDownloader.setClientPool(githubClientPool, mavenSession);
+            issueDownloader.setIncludePullRequests(includePullRequests);
+            issueDownloader.setRateLimitGovernor(githubRateLimitGovernor);
+            issueDownloader.setRateLimitReserve(githubRateLimitReserve);
+            issueDownloader.setRateLimitMaxWait(githubRateLimitMaxWait);
+
+            List<Issue> issueList = issueDownloader.getIssueList();
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Sent " + issueDownloader.getRequests() + " GitHub API requests for this module; "
+                        + "rate limit of the token for the whole build: " + issueDownloader.getRateLimit() + ".");
+            }
+            return getReleases(issueList, new GitHubIssueManagementSystem());
         } catch (Exception e) {
             throw new MojoExecutionException("Failed to extract issues from GitHub.", e);
         }
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Sends the GET requests of the GitHub client with the <code>ETag</code> and <code>Last-Modified</code> validators of
+ * the previous response, and serves a <code>304 Not Modified</code> answer from the cached response. GitHub does not
+ * count such answers against the rate limit.
+ *
+ * @since 3.0.0
+ */
+public class ConditionalGitHubConnector implements GitHubConnector {
+
+    private static final int HTTP_OK = 200;
+
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final GitHubConnector connector;
+
+    private final ConditionalRequestCache cache;
+
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    /**
+     * @param connector the connector that sends the requests
+     * @param cache the cache of the previous responses
+     */
+    public ConditionalGitHubConnector(GitHubConnector connector, ConditionalRequestCache cache) {
+        this.connector = connector;
+        this.cache = cache;
+    }
+
+    /**
+     * Gets the number of responses that have been served from the cache since this connector was created.
+     *
+     * @return the number of <code>304 Not Modified</code> answers
+     */
+    public int getNotModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        if (!"GET".equals(request.method())
+                || request.header("If-None-Match") != null
+                || request.header("If-Modified-Since") != null) {
+            return connector.send(request);
+        }
+
+        // the same URL may return something else for another user or media type
+        String key = ConditionalRequestCache.getKey(
+                request.url().toString(), request.header("Authorization"), request.header("Accept"));
+        ConditionalRequestCache.Entry cached;
+        try {
+            cached = cache.read(key);
+        } catch (IOException e) {
+            cached = null;
+        }
+
+        GitHubConnectorResponse response =
+                connector.send(cached == null ? request : new ConditionalRequest(request, cached));
+
+        if (response.statusCode() == HTTP_NOT_MODIFIED && cached != null) {
+            // a 304 carries up to date headers, like the rate limit ones, that replace the cached ones
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(cached.getHeaders());
+            copyHeaders(response.allHeaders(), headers);
+            response.close();
+            notModifiedResponses.incrementAndGet();
+            return new CachedResponse(request, headers, cached.getBody());
+        }
+
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        if (response.statusCode() != HTTP_OK || (etag == null && lastModified == null)) {
+            return response;
+        }
+
+        byte[] body;
+        try (InputStream in = response.bodyStream()) {
+            body = IOUtils.toByteArray(in);
+        } finally {
+            response.close();
+        }
+        Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        copyHeaders(response.allHeaders(), headers);
+        try {
+            cache.write(key, new ConditionalRequestCache.Entry(etag, lastModified, headers, body));
+        } catch (IOException e) {
+            // the response is still good, it will just be downloaded again next time
+        }
+        return new CachedResponse(request, headers, body);
+    }
+
+    /**
+     * Copies the headers that still apply to a body that has already been decoded.
+     */
+    private static void copyHeaders(Map<String, List<String>> from, Map<String, List<String>> to) {
+        for (Map.Entry<String, List<String>> header : from.entrySet()) {
+            String name = header.getKey();
+            if (name != null
+                    && !"Content-Encoding".equalsIgnoreCase(name)
+                    && !"Content-Length".equalsIgnoreCase(name)
+                    && !"Transfer-Encoding".equalsIgnoreCase(name)) {
+                to.put(name, header.getValue());
+            }
+        }
+    }
+
+    /**
+     * A request with the validators of a cached response.
+     */
+    private static class ConditionalRequest implements GitHubConnectorRequest {
+        private final GitHubConnectorRequest request;
+
+        private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        ConditionalRequest(GitHubConnectorRequest request, ConditionalRequestCache.Entry cached) {
+            this.request = request;
+            headers.putAll(request.allHeaders());
+            if (cached.getETag() != null) {
+                headers.put("If-None-Match", Collections.singletonList(cached.getETag()));
+            }
+            if (cached.getLastModified() != null) {
+                headers.put("If-Modified-Since", Collections.singletonList(cached.getLastModified()));
+            }
+        }
+
+        @Override
+        public String method() {
+            return request.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            return Collections.unmodifiableMap(headers);
+        }
+
+        @Override
+        public String header(String name) {
+            List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : String.join(",", values);
+        }
+
+        @Override
+        public String contentType() {
+            return request.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return request.body();
+        }
+
+        @Override
+        public URL url() {
+            return request.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return request.hasBody();
+        }
+    }
+
+    /**
+     * A successful response whose body has already been read.
+     */
+    private static class CachedResponse extends GitHubConnectorResponse.ByteArrayResponse {
+        private final byte[] body;
+
+        CachedResponse(GitHubConnectorRequest request, Map<String, List<String>> headers, byte[] body) {
+            super(request, HTTP_OK, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.maven.plugins.changes.github;
 
 import javax.inject.Inject;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.util.HashMap;
 import java.util.List;
@@ -31,6 +32,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.changes.AbstractChangesReport;
 import org.apache.maven.plugins.changes.ProjectUtils;
+import org.apache.maven.plugins.changes.ReleaseUtils;
 import org.apache.maven.plugins.changes.issues.Issue;
 import org.apache.maven.plugins.changes.issues.IssueUtils;
 import org.apache.maven.plugins.changes.issues.IssuesReportHelper;
@@ -99,15 +101,73 @@ public class GitHubChangesReport extends AbstractChangesReport {
     @Parameter(defaultValue = "true")
     private boolean includeOpenIssues;
 
+    /**
+     * Boolean which says if we should include the pull requests, which GitHub lists together with the issues.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(defaultValue = "true")
+    private boolean includePullRequests;
+
+    /**
+     * The GitHub API the issues are downloaded with: <code>rest</code>, or <code>graphql</code> which only downloads
+     * the fields used by the plugin and needs far fewer requests for large repositories. The GraphQL API requires a
+     * token, configured in the server referenced by <code>githubAPIServerId</code>, and never lists pull requests.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubApi", defaultValue = "rest")
+    private String githubApi;
+
+    /**
+     * The number of requests of the GitHub rate limit that are kept in reserve for other tools using the same token.
+     * Once only the reserve is left, requests are deferred until GitHub resets the rate limit, instead of failing.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubRateLimitReserve", defaultValue = "50")
+    private int githubRateLimitReserve;
+
+    /**
+     * The longest time in seconds to wait for GitHub to reset the rate limit, once only the reserve of
+     * <code>githubRateLimitReserve</code> requests is left. If the reset is further away, the build fails at once
+     * instead. Set to <code>0</code> to never wait.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubRateLimitMaxWait", defaultValue = "900")
+    private int githubRateLimitMaxWait;
+
     /**
      * Boolean which says if we should include only issues with milestones.
      */
     @Parameter(defaultValue = "true")
     private boolean onlyMilestoneIssues;
 
+    /**
+     * If set to <code>true</code>, the responses of the GitHub API are cached in <code>githubCacheDirectory</code>
+     * together with their <code>ETag</code> and <code>Last-Modified</code> headers. Later executions send these
+     * validators, so that GitHub answers <code>304 Not Modified</code> for unchanged pages instead of sending them
+     * again. Such answers do not count against the GitHub rate limit.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubCache", defaultValue = "false")
+    private boolean githubCache;
+
+    /**
+     * The directory where GitHub API responses are cached when <code>githubCache</code> is enabled. The default
+     * location is shared by all the modules of a build and survives <code>mvn clean</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.githubCacheDirectory", defaultValue = "${user.home}/.m2/changes-cache/github")
+    private File githubCacheDirectory;
+
     /**
      * If you only want to show issues for the current version in the report. The current version being used is
-     * <code>${project.version}</code> minus any "-SNAPSHOT" suffix.
+     * <code>${project.version}</code> minus any "-SNAPSHOT" suffix. Only the issues of the milestone with that title
+     * are downloaded from GitHub.
      */
     @Parameter(defaultValue = "false")
     private boolean onlyCurrentVersion;
@@ -117,9 +177,24 @@ public class GitHubChangesReport extends AbstractChangesReport {
      */
     private SettingsDecrypter settingsDecrypter;
 
+    /**
+     * Pool of the GitHub clients, shared by the modules of a build.
+     */
+    private final GitHubClientPool githubClientPool;
+
+    /**
+     * Governor of the GitHub rate limits, shared by the modules of a build.
+     */
+    private final GitHubRateLimitGovernor githubRateLimitGovernor;
+
     @Inject
-    public GitHubChangesReport(SettingsDecrypter settingsDecrypter) {
+    public GitHubChangesReport(
+            SettingsDecrypter settingsDecrypter,
+            GitHubClientPool githubClientPool,
+            GitHubRateLimitGovernor githubRateLimitGovernor) {
         this.settingsDecrypter = settingsDecrypter;
+        this.githubClientPool = githubClientPool;
+        this.githubRateLimitGovernor = githubRateLimitGovernor;
     }
 
     /* --------------------------------------------------------------------- */
@@ -172,11 +247,26 @@ public class GitHubChangesReport extends AbstractChangesReport {
 
         try {
             // Download issues
-            GitHubDownloader issueDownloader = new GitHubDownloader(project, includeOpenIssues, onlyMilestoneIssues);
+            GitHubDownloader issueDownloader =
+                    GitHubDownloader.newInstance(githubApi, project, includeOpenIssues, onlyMilestoneIssues);
 
+            issueDownloader.setLog(getLog());
             issueDownloader.configureAuthentication(settingsDecrypter, githubAPIServerId, settings, getLog());
+            issueDownloader.setCacheDirectory(githubCache ? githubCacheDirectory : null);
+            issueDownloader.setClientPool(githubClientPool, mavenSession);
+            issueDownloader.setIncludePullRequests(includePullRequests);
+            issueDownloader.setRateLimitGovernor(githubRateLimitGovernor);
+            issueDownloader.setRateLimitReserve(githubRateLimitReserve);
+            issueDownloader.setRateLimitMaxWait(githubRateLimitMaxWait);
+            if (onlyCurrentVersion) {
+                issueDownloader.setMilestone(ReleaseUtils.getReleaseVersion(project.getVersion()));
+            }
 
             List<Issue> issueList = issueDownloader.getIssueList();
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Sent " + issueDownloader.getRequests() + " GitHub API requests for this module; "
+                        + "rate limit of the token for the whole build: " + issueDownloader.getRateLimit() + ".");
+            }
 
             if (onlyCurrentVersion) {
                 issueList = IssueUtils.getIssuesForVersion(issueList, project.getVersion());
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.function.IOSupplier;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
+import org.kohsuke.github.GHRepository;
+
+/**
+ * Keeps the GitHub clients and the repositories they have looked up for the whole build, so that the modules of a
+ * build which report on the same repository do not build a client and look the repository up again.
+ * <p>
+ * The repositories are kept for one build session only: a long-lived Maven daemon runs many builds with the same
+ * plugin components, and a later build must not reuse the repository data or the credentials of an earlier one.
+ * </p>
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class GitHubClientPool implements Disposable {
+
+    /** The repositories of each build session, dropped once the session is no longer referenced. */
+    private final Map<MavenSession, Map<String, GHRepository>> sessions =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Gets a repository, building its client and looking it up on first use in the build session. A repository is
+     * only shared with the downloaders that talk to the same GitHub server with the same token and cache.
+     *
+     * @param session the build session
+     * @param endpoint the API endpoint of a GitHub Enterprise server, or <code>null</code> for github.com
+     * @param token the token the client authenticates with, or <code>null</code>
+     * @param cacheDirectory the directory the client caches the responses in, or <code>null</code>
+     * @param repository the owner and the name of the repository, separated by a slash
+     * @param repositoryLoader builds the client and looks the repository up
+     * @return the repository
+     * @throws IOException if the repository can not be looked up
+     */
+    public GHRepository get(
+            MavenSession session,
+            String endpoint,
+            String token,
+            File cacheDirectory,
+            String repository,
+            IOSupplier<GHRepository> repositoryLoader)
+            throws IOException {
+        Map<String, GHRepository> repositories = sessions.computeIfAbsent(session, s -> new ConcurrentHashMap<>());
+        String key = ConditionalRequestCache.getKey(
+                endpoint, token, cacheDirectory == null ? null : cacheDirectory.getAbsolutePath(), repository);
+        try {
+            return repositories.computeIfAbsent(key, k -> {
+                try {
+                    return repositoryLoader.get();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        sessions.clear();
+    }
+}
@@ -35,7 +35,10 @@ import org.apache.maven.settings.crypto.SettingsDecrypter;
 public class GitHubDeprecatedReport extends GitHubChangesReport {
 
     @Inject
-    public GitHubDeprecatedReport(SettingsDecrypter settingsDecrypter) {
-        super(settingsDecrypter);
+    public GitHubDeprecatedReport(
+            SettingsDecrypter settingsDecrypter,
+            GitHubClientPool githubClientPool,
+            GitHubRateLimitGovernor githubRateLimitGovernor) {
+        super(settingsDecrypter, githubClientPool, githubRateLimitGovernor);
     }
 }
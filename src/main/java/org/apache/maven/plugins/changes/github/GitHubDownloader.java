@@ -18,14 +18,25 @@
  */
 package org.apache.maven.plugins.changes.github;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
 import org.apache.maven.plugins.changes.issues.Issue;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.settings.Server;
@@ -35,15 +46,38 @@ import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecrypter;
 import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.kohsuke.github.GHIssue;
+import org.kohsuke.github.GHIssueQueryBuilder;
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHLabel;
+import org.kohsuke.github.GHMilestone;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHUser;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
 
 /**
  * @since 2.8
  */
 public class GitHubDownloader {
 
+    /** Selects the REST API downloader. */
+    public static final String API_REST = "rest";
+
+    /** Selects the GraphQL API downloader. */
+    public static final String API_GRAPHQL = "graphql";
+
+    /** The default number of requests of the rate limit that are kept in reserve for other tools. */
+    public static final int DEFAULT_RATE_LIMIT_RESERVE = 50;
+
+    /** The default longest time in seconds to wait for GitHub to reset the rate limit. */
+    public static final int DEFAULT_RATE_LIMIT_MAX_WAIT = 900;
+
+    /** The milestone filter of the GitHub API that matches the issues that have any milestone. */
+    protected static final String ANY_MILESTONE = "*";
+
+    /** The number of issues per page, the largest the GitHub API allows. */
+    protected static final int PAGE_SIZE = 100;
+
     /**
      * The github client.
      */
@@ -52,27 +86,132 @@ public class GitHubDownloader {
     /**
      * A boolean to indicate if we should include open issues as well
      */
-    private boolean includeOpenIssues;
+    protected boolean includeOpenIssues;
 
     /**
      * A boolean to indicate if we should only include issues with milestones
      */
-    private boolean onlyMilestoneIssues;
+    protected boolean onlyMilestoneIssues;
+
+    /**
+     * A boolean to indicate if we should include pull requests as well
+     */
+    private boolean includePullRequests = true;
+
+    /**
+     * The display names of the assignees, by login.
+     */
+    private final Map<String, String> assigneeNames = new ConcurrentHashMap<>();
+
+    /**
+     * The title of the only milestone to include, or <code>null</code> for all the milestones.
+     */
+    protected String milestone;
+
+    /**
+     * The connector that sends the requests to GitHub.
+     */
+    private GitHubConnector connector = GitHubConnector.DEFAULT;
 
     /**
      * The owner/organization of the github repo.
      */
-    private String githubOwner;
+    protected String githubOwner;
 
     /**
      * The name of the github repo.
      */
-    private String githubRepo;
+    protected String githubRepo;
 
     /**
      * The url to the github repo's issue management
      */
-    private String githubIssueURL;
+    protected String githubIssueURL;
+
+    /**
+     * The API endpoint of a GitHub Enterprise server, or <code>null</code> for github.com.
+     */
+    protected String endpoint;
+
+    /**
+     * The token the client authenticates with, or <code>null</code>.
+     */
+    protected String token;
+
+    /**
+     * The directory the GitHub API responses are cached in, or <code>null</code>.
+     */
+    private File cacheDirectory;
+
+    /**
+     * Shares the repository with the other modules of the build, or <code>null</code> to look it up for this
+     * downloader only.
+     */
+    private GitHubClientPool clientPool;
+
+    /**
+     * The build session the repository is shared in.
+     */
+    private MavenSession session;
+
+    /**
+     * The repository, looked up on first use.
+     */
+    private GHRepository repository;
+
+    /**
+     * Shares the rate limit budgets with the other modules of the build, or <code>null</code> to track them for this
+     * downloader only.
+     */
+    private GitHubRateLimitGovernor rateLimitGovernor;
+
+    /**
+     * The number of requests of the rate limit that are kept in reserve.
+     */
+    private int rateLimitReserve = DEFAULT_RATE_LIMIT_RESERVE;
+
+    /**
+     * The longest time in seconds to wait for GitHub to reset the rate limit, before failing.
+     */
+    private int rateLimitMaxWait = DEFAULT_RATE_LIMIT_MAX_WAIT;
+
+    /**
+     * Logs the waits for the rate limit reset.
+     */
+    private Log log = new SystemStreamLog();
+
+    /**
+     * The rate limit budget the requests are sent through, known once the download has started.
+     */
+    private GitHubRateLimitGovernor.Budget rateLimit;
+
+    /**
+     * The number of requests sent through the budget before the download started.
+     */
+    private long requestsBefore;
+
+    /**
+     * Creates the downloader for one of the GitHub APIs.
+     *
+     * @param api <code>rest</code> or <code>graphql</code>
+     * @param project the project whose issue management points to the GitHub repository
+     * @param includeOpenIssues whether open issues are included as well
+     * @param onlyMilestoneIssues whether only the issues with a milestone are included
+     * @return the downloader
+     * @throws IOException if the issue management URL is not a GitHub URL
+     * @since 3.0.0
+     */
+    public static GitHubDownloader newInstance(
+            String api, MavenProject project, boolean includeOpenIssues, boolean onlyMilestoneIssues)
+            throws IOException {
+        if (API_GRAPHQL.equalsIgnoreCase(api)) {
+            return new GitHubGraphQLDownloader(project, includeOpenIssues, onlyMilestoneIssues);
+        } else if (API_REST.equalsIgnoreCase(api)) {
+            return new GitHubDownloader(project, includeOpenIssues, onlyMilestoneIssues);
+        }
+        throw new IllegalArgumentException(
+                "Unknown GitHub API '" + api + "', use '" + API_REST + "' or '" + API_GRAPHQL + "'");
+    }
 
     public GitHubDownloader(MavenProject project, boolean includeOpenIssues, boolean onlyMilestoneIssues)
             throws IOException {
@@ -86,9 +225,9 @@ public class GitHubDownloader {
         if (githubURL.getHost().equalsIgnoreCase("github.com")) {
             this.client = new GitHubBuilder();
         } else {
-            this.client = new GitHubBuilder()
-                    .withEndpoint(githubURL.getProtocol() + "://" + githubURL.getHost()
-                            + (githubURL.getPort() == -1 ? "" : ":" + githubURL.getPort()));
+            this.endpoint = githubURL.getProtocol() + "://" + githubURL.getHost()
+                    + (githubURL.getPort() == -1 ? "" : ":" + githubURL.getPort());
+            this.client = new GitHubBuilder().withEndpoint(endpoint);
         }
 
         this.githubIssueURL = project.getIssueManagement().getUrl();
@@ -116,6 +255,20 @@ public class GitHubDownloader {
         this.githubRepo = urlPathParts[1];
     }
 
+    /**
+     * Gets the display name of a user, or the login if the user has none. The name is not part of the issues listed
+     * by GitHub, so it is looked up once for each user instead of once for each issue.
+     */
+    private String getAssigneeName(GHUser assignee) throws IOException {
+        String login = assignee.getLogin();
+        String name = assigneeNames.get(login);
+        if (name == null) {
+            name = assignee.getName() != null ? assignee.getName() : login;
+            assigneeNames.put(login, name);
+        }
+        return name;
+    }
+
     protected Issue createIssue(GHIssue githubIssue) throws IOException {
         Issue issue = new Issue();
 
@@ -129,11 +282,7 @@ public class GitHubDownloader {
         issue.setUpdated(githubIssue.getUpdatedAt());
 
         if (githubIssue.getAssignee() != null) {
-            if (githubIssue.getAssignee().getName() != null) {
-                issue.setAssignee(githubIssue.getAssignee().getName());
-            } else {
-                issue.setAssignee(githubIssue.getAssignee().getLogin());
-            }
+            issue.setAssignee(getAssigneeName(githubIssue.getAssignee()));
         }
 
         issue.setSummary(githubIssue.getTitle());
@@ -156,27 +305,235 @@ public class GitHubDownloader {
 
     public List<Issue> getIssueList() throws IOException {
         List<Issue> issueList = new ArrayList<>();
+        openRateLimit(API_REST);
+        GHRepository repository = getRepository();
+
+        // let GitHub filter on the milestone, so that only the issues in the report are downloaded
+        String milestoneFilter;
+        if (milestone != null) {
+            GHMilestone ghMilestone = findMilestone(repository, milestone);
+            if (ghMilestone == null) {
+                return issueList;
+            }
+            milestoneFilter = String.valueOf(ghMilestone.getNumber());
+        } else if (onlyMilestoneIssues) {
+            milestoneFilter = ANY_MILESTONE;
+        } else {
+            milestoneFilter = null;
+        }
 
-        if (includeOpenIssues) {
-            final List<GHIssue> openIssues =
-                    client.build().getRepository(githubOwner + "/" + githubRepo).getIssues(GHIssueState.OPEN);
-            for (final GHIssue issue : openIssues) {
-                if (!onlyMilestoneIssues || issue.getMilestone() != null) {
-                    issueList.add(createIssue(issue));
-                }
+        if (!includeOpenIssues) {
+            issueList.addAll(getIssues(repository, GHIssueState.CLOSED, milestoneFilter));
+            return issueList;
+        }
+
+        // the open and the closed issues are paged through separately, list the closed ones in the background
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<Issue>> closedIssues =
+                    executor.submit(() -> getIssues(repository, GHIssueState.CLOSED, milestoneFilter));
+            issueList.addAll(getIssues(repository, GHIssueState.OPEN, milestoneFilter));
+            issueList.addAll(getResult(closedIssues));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return issueList;
+    }
+
+    private List<Issue> getIssues(GHRepository repository, GHIssueState state, String milestoneFilter)
+            throws IOException {
+        GHIssueQueryBuilder.ForRepository query = repository.queryIssues();
+        if (milestoneFilter != null) {
+            query.milestone(milestoneFilter);
+        }
+        // pages are fetched as the iteration goes, each GHIssue is dropped as soon as it has been converted
+        List<Issue> issues = new ArrayList<>();
+        for (GHIssue issue : query.state(state).pageSize(PAGE_SIZE).list()) {
+            // the issues endpoint also lists the pull requests, which can only be told apart once downloaded
+            if (includePullRequests || !issue.isPullRequest()) {
+                issues.add(createIssue(issue));
             }
         }
+        return issues;
+    }
 
-        final List<GHIssue> closedIssues =
-                client.build().getRepository(githubOwner + "/" + githubRepo).getIssues(GHIssueState.CLOSED);
+    private static <T> T getResult(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while querying GitHub");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
 
-        for (final GHIssue issue : closedIssues) {
-            if (!onlyMilestoneIssues || issue.getMilestone() != null) {
-                issueList.add(createIssue(issue));
+    /**
+     * Gets the repository, building the client and looking the repository up only once for all the requests, and
+     * once for all the modules of the build when there is a client pool.
+     */
+    private GHRepository getRepository() throws IOException {
+        if (repository == null) {
+            if (clientPool == null) {
+                repository = loadRepository();
+            } else {
+                repository = clientPool.get(
+                        session, endpoint, token, cacheDirectory, githubOwner + "/" + githubRepo, this::loadRepository);
             }
         }
+        return repository;
+    }
 
-        return issueList;
+    private GHRepository loadRepository() throws IOException {
+        return client.withConnector(rateLimit.govern(connector, getRateLimitMaxWait(), log))
+                .build()
+                .getRepository(githubOwner + "/" + githubRepo);
+    }
+
+    /**
+     * Gets the rate limit budget the requests of the download are sent through.
+     *
+     * @param api the GitHub API, which has its own budget
+     * @return the budget
+     */
+    protected GitHubRateLimitGovernor.Budget openRateLimit(String api) {
+        if (rateLimit == null) {
+            GitHubRateLimitGovernor governor =
+                    rateLimitGovernor == null ? new GitHubRateLimitGovernor() : rateLimitGovernor;
+            rateLimit = governor.get(ConditionalRequestCache.getKey(endpoint, token, api), rateLimitReserve);
+            requestsBefore = rateLimit.getRequests();
+        }
+        return rateLimit;
+    }
+
+    /**
+     * @return the longest time to wait for GitHub to reset the rate limit, in milliseconds
+     */
+    protected long getRateLimitMaxWait() {
+        return rateLimitMaxWait * 1000L;
+    }
+
+    protected Log getLog() {
+        return log;
+    }
+
+    /**
+     * Gets the rate limit budget of the token, with the number of requests sent by the whole build.
+     *
+     * @return the budget, or <code>null</code> if nothing has been downloaded yet
+     */
+    public GitHubRateLimitGovernor.Budget getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Gets the number of requests sent while this downloader was downloading, which also counts the requests of the
+     * modules that were built at the same time with the same token.
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return rateLimit == null ? 0 : rateLimit.getRequests() - requestsBefore;
+    }
+
+    private static GHMilestone findMilestone(GHRepository repository, String title) throws IOException {
+        for (GHMilestone ghMilestone : repository.listMilestones(GHIssueState.ALL)) {
+            if (title.equals(ghMilestone.getTitle())) {
+                return ghMilestone;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Restricts the issues to those of one milestone. GitHub is asked for the issues of that milestone only, instead
+     * of all the issues of the repository being downloaded and filtered afterwards.
+     *
+     * @param milestone the title of the milestone, or <code>null</code> for the issues of all the milestones
+     */
+    public void setMilestone(String milestone) {
+        this.milestone = milestone;
+    }
+
+    /**
+     * Sets whether the pull requests, which GitHub lists together with the issues, are included.
+     *
+     * @param includePullRequests <code>false</code> to drop the pull requests before they are converted to issues
+     */
+    public void setIncludePullRequests(boolean includePullRequests) {
+        this.includePullRequests = includePullRequests;
+    }
+
+    /**
+     * Sets the governor that shares the rate limit budget of the token with the other modules of the build, so that
+     * requests are deferred until the budget is reset instead of failing once it is exhausted.
+     *
+     * @param rateLimitGovernor the governor, or <code>null</code> to track the budget for this downloader only
+     */
+    public void setRateLimitGovernor(GitHubRateLimitGovernor rateLimitGovernor) {
+        this.rateLimitGovernor = rateLimitGovernor;
+    }
+
+    /**
+     * Sets the number of requests of the rate limit that are kept in reserve for other tools using the same token.
+     *
+     * @param rateLimitReserve the number of requests, only used by the first downloader using a token
+     */
+    public void setRateLimitReserve(int rateLimitReserve) {
+        this.rateLimitReserve = rateLimitReserve;
+    }
+
+    /**
+     * Sets the longest time to wait for GitHub to reset the rate limit, once only the reserve is left. Longer waits
+     * fail the download instead.
+     *
+     * @param rateLimitMaxWait the time in seconds, <code>0</code> to fail at once
+     */
+    public void setRateLimitMaxWait(int rateLimitMaxWait) {
+        this.rateLimitMaxWait = rateLimitMaxWait;
+    }
+
+    public void setLog(Log log) {
+        this.log = log;
+    }
+
+    /**
+     * Sets the pool that shares the GitHub client and the repository with the other modules of the build.
+     *
+     * @param clientPool the pool, or <code>null</code> to look the repository up for this downloader only
+     * @param session the build session the repository is shared in
+     */
+    public void setClientPool(GitHubClientPool clientPool, MavenSession session) {
+        this.clientPool = clientPool;
+        this.session = session;
+    }
+
+    /**
+     * Sets the connector that sends the requests to GitHub.
+     */
+    void setConnector(GitHubConnector connector) {
+        this.connector = connector;
+        client.withConnector(connector);
+    }
+
+    /**
+     * Sets the directory to cache the GitHub API responses in. When set, later requests for the same pages are sent
+     * with the validators of the cached responses, and unchanged pages are not downloaded again.
+     *
+     * @param cacheDirectory the cache directory, or <code>null</code> to disable caching
+     */
+    public void setCacheDirectory(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        if (cacheDirectory != null) {
+            setConnector(new ConditionalGitHubConnector(connector, new ConditionalRequestCache(cacheDirectory)));
+        }
     }
 
     public void configureAuthentication(
@@ -192,8 +549,8 @@ public class GitHubDownloader {
                     log.error(problem.getMessage(), problem.getException());
                 }
                 server = result.getServer();
-                String password = server.getPassword();
-                client.withJwtToken(password);
+                token = server.getPassword();
+                client.withJwtToken(token);
 
                 configured = true;
                 break;
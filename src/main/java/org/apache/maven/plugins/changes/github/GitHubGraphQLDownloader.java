@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.apache.maven.plugins.changes.issues.Issue;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Downloads the issues with the GraphQL API of GitHub, which returns exactly the fields of an {@link Issue} for a
+ * hundred issues in each request, instead of the complete issues of the REST API and the separate requests for the
+ * names of their assignees. The GraphQL API requires a token and never lists pull requests.
+ *
+ * @since 3.0.0
+ */
+public class GitHubGraphQLDownloader extends GitHubDownloader {
+
+    private static final String ISSUES_QUERY = "query($owner: String!, $name: String!, $states: [IssueState!], "
+            + "$filterBy: IssueFilters, $cursor: String) {"
+            + " repository(owner: $owner, name: $name) {"
+            + " issues(first: " + PAGE_SIZE + ", after: $cursor, states: $states, filterBy: $filterBy,"
+            + " orderBy: {field: CREATED_AT, direction: DESC}) {"
+            + " pageInfo { hasNextPage endCursor }"
+            + " nodes { number title state createdAt updatedAt milestone { title }"
+            + " labels(first: 1) { nodes { name } } assignees(first: 1) { nodes { login name } }"
+            + " author { login } } } } }";
+
+    private static final String MILESTONES_QUERY = "query($owner: String!, $name: String!, $title: String!) {"
+            + " repository(owner: $owner, name: $name) {"
+            + " milestones(first: " + PAGE_SIZE + ", query: $title) { nodes { number title } } } }";
+
+    /** The connection timeout in milliseconds, the same as the default one of the other issue trackers. */
+    private static final int CONNECTION_TIMEOUT = 36000;
+
+    /** The timeout in milliseconds for receiving a response, the same as the default one of the other trackers. */
+    private static final int RECEIVE_TIMEOUT = 32000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public GitHubGraphQLDownloader(MavenProject project, boolean includeOpenIssues, boolean onlyMilestoneIssues)
+            throws IOException {
+        super(project, includeOpenIssues, onlyMilestoneIssues);
+    }
+
+    @Override
+    public List<Issue> getIssueList() throws IOException {
+        if (token == null) {
+            throw new IOException("The GitHub GraphQL API requires a token, configure it in the server "
+                    + "referenced by githubAPIServerId");
+        }
+
+        List<Issue> issueList = new ArrayList<>();
+        openRateLimit(API_GRAPHQL);
+        try (CloseableHttpClient client = setupHttpClient()) {
+            // GitHub filters by milestone number with milestoneNumber, and only by any milestone with milestone
+            String milestoneFilter;
+            String milestoneNumber;
+            if (milestone != null) {
+                milestoneFilter = null;
+                milestoneNumber = findMilestone(client, milestone);
+                if (milestoneNumber == null) {
+                    return issueList;
+                }
+            } else {
+                milestoneFilter = onlyMilestoneIssues ? ANY_MILESTONE : null;
+                milestoneNumber = null;
+            }
+
+            if (includeOpenIssues) {
+                addIssues(client, issueList, "OPEN", milestoneFilter, milestoneNumber);
+            }
+            addIssues(client, issueList, "CLOSED", milestoneFilter, milestoneNumber);
+        }
+        return issueList;
+    }
+
+    private CloseableHttpClient setupHttpClient() {
+        return HttpClients.custom()
+                .useSystemProperties()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(CONNECTION_TIMEOUT)
+                        .setSocketTimeout(RECEIVE_TIMEOUT)
+                        .build())
+                .build();
+    }
+
+    private void addIssues(
+            CloseableHttpClient client,
+            List<Issue> issueList,
+            String state,
+            String milestoneFilter,
+            String milestoneNumber)
+            throws IOException {
+        String cursor = null;
+        do {
+            ObjectNode variables = newVariables();
+            variables.putArray("states").add(state);
+            // a null milestone would only match the issues without milestone, so leave it out
+            ObjectNode filterBy = variables.putObject("filterBy");
+            if (milestoneFilter != null) {
+                filterBy.put("milestone", milestoneFilter);
+            }
+            if (milestoneNumber != null) {
+                filterBy.put("milestoneNumber", milestoneNumber);
+            }
+            variables.put("cursor", cursor);
+            JsonNode issues = query(client, ISSUES_QUERY, variables).path("issues");
+
+            for (JsonNode node : issues.path("nodes")) {
+                issueList.add(createIssue(node));
+            }
+
+            JsonNode pageInfo = issues.path("pageInfo");
+            cursor = pageInfo.path("hasNextPage").asBoolean()
+                    ? pageInfo.path("endCursor").asText(null)
+                    : null;
+        } while (cursor != null);
+    }
+
+    /**
+     * Finds the number of a milestone, which the issues are filtered by.
+     *
+     * @return the milestone number, or <code>null</code> if the repository has no milestone with the title
+     */
+    private String findMilestone(CloseableHttpClient client, String title) throws IOException {
+        ObjectNode variables = newVariables();
+        variables.put("title", title);
+        JsonNode milestones = query(client, MILESTONES_QUERY, variables).path("milestones");
+        // the query matches titles that contain the searched one
+        for (JsonNode node : milestones.path("nodes")) {
+            if (title.equals(node.path("title").asText())) {
+                return node.path("number").asText();
+            }
+        }
+        return null;
+    }
+
+    private ObjectNode newVariables() {
+        ObjectNode variables = mapper.createObjectNode();
+        variables.put("owner", githubOwner);
+        variables.put("name", githubRepo);
+        return variables;
+    }
+
+    /**
+     * Sends a query about the repository.
+     *
+     * @return the repository node of the answer
+     */
+    private JsonNode query(CloseableHttpClient client, String query, ObjectNode variables) throws IOException {
+        ObjectNode body = mapper.createObjectNode();
+        body.put("query", query);
+        body.set("variables", variables);
+
+        HttpPost post = new HttpPost(getGraphQLUrl());
+        post.setHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        post.setEntity(new StringEntity(mapper.writeValueAsString(body), ContentType.APPLICATION_JSON));
+
+        GitHubRateLimitGovernor.Budget rateLimit = getRateLimit();
+        rateLimit.acquire(getRateLimitMaxWait(), getLog());
+        JsonNode answer;
+        try (CloseableHttpResponse response = client.execute(post)) {
+            rateLimit.update(name -> {
+                Header header = response.getFirstHeader(name);
+                return header == null ? null : header.getValue();
+            });
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                throw new IOException("GitHub answered the GraphQL query with " + response.getStatusLine() + ": "
+                        + EntityUtils.toString(response.getEntity()));
+            }
+            try (InputStream in = response.getEntity().getContent()) {
+                answer = mapper.readTree(in);
+            }
+        }
+
+        JsonNode errors = answer.path("errors");
+        if (errors.size() > 0) {
+            List<String> messages = new ArrayList<>();
+            errors.forEach(error -> messages.add(error.path("message").asText()));
+            throw new IOException("GitHub could not answer the GraphQL query: " + String.join(", ", messages));
+        }
+        JsonNode repository = answer.path("data").path("repository");
+        if (!repository.isObject()) {
+            throw new IOException("GitHub repository " + githubOwner + "/" + githubRepo + " not found");
+        }
+        return repository;
+    }
+
+    private String getGraphQLUrl() {
+        return endpoint == null ? "https://api.github.com/graphql" : endpoint + "/api/graphql";
+    }
+
+    /**
+     * Converts an issue the same way as {@link #createIssue(org.kohsuke.github.GHIssue)}.
+     */
+    private Issue createIssue(JsonNode node) {
+        Issue issue = new Issue();
+
+        String number = node.path("number").asText();
+        issue.setKey(number);
+        issue.setId(number);
+
+        issue.setLink(githubIssueURL + number);
+
+        issue.setCreated(getDate(node.path("createdAt")));
+
+        issue.setUpdated(getDate(node.path("updatedAt")));
+
+        JsonNode assignee = node.path("assignees").path("nodes").path(0);
+        if (assignee.isObject()) {
+            String name = assignee.path("name").asText(null);
+            issue.setAssignee(
+                    name == null || name.isEmpty() ? assignee.path("login").asText() : name);
+        }
+
+        issue.setSummary(node.path("title").asText());
+
+        JsonNode milestoneNode = node.path("milestone");
+        if (milestoneNode.isObject()) {
+            issue.addFixVersion(milestoneNode.path("title").asText());
+        }
+
+        issue.setReporter(node.path("author").path("login").asText(null));
+
+        issue.setStatus(node.path("state").asText());
+
+        JsonNode label = node.path("labels").path("nodes").path(0);
+        if (label.isObject()) {
+            issue.setType(label.path("name").asText());
+        }
+
+        return issue;
+    }
+
+    private static Date getDate(JsonNode node) {
+        return node.isTextual() ? Date.from(Instant.parse(node.asText())) : null;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.maven.plugin.logging.Log;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Tracks the rate limit budgets of the GitHub tokens used by a build. The budget is read from the
+ * <code>X-RateLimit-*</code> headers of every response, and once it drops to a reserve the following requests are
+ * deferred until GitHub resets it, instead of failing halfway through the build. Requests that would have to wait
+ * longer than allowed fail at once.
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class GitHubRateLimitGovernor {
+
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * The rate limit budget of one token for one GitHub API.
+     */
+    public static class Budget {
+        private final int reserve;
+
+        private final AtomicLong requests = new AtomicLong();
+
+        private final AtomicLong deferredTime = new AtomicLong();
+
+        private int limit = -1;
+
+        private int remaining = -1;
+
+        private long resetTime;
+
+        /** The end of the window for which a deferral has been logged, so that it is logged only once. */
+        private long loggedResetTime;
+
+        public Budget(int reserve) {
+            this.reserve = reserve;
+        }
+
+        /**
+         * Takes one request from the budget, waiting until GitHub resets the budget if only the reserve is left.
+         *
+         * @param maxWait the longest time to wait for the reset, in milliseconds
+         * @param log logs the wait
+         * @throws InterruptedIOException if interrupted while waiting
+         * @throws IOException if the reset is further away than <code>maxWait</code>
+         */
+        public void acquire(long maxWait, Log log) throws IOException {
+            long wait = 0;
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (remaining >= 0 && now >= resetTime) {
+                    // a new window has started, the next response tells how much of it is left
+                    remaining = -1;
+                } else if (remaining >= 0 && remaining <= reserve) {
+                    wait = resetTime - now;
+                    if (wait > maxWait) {
+                        throw new IOException("Only " + remaining + " requests of the GitHub rate limit are left until "
+                                + Instant.ofEpochMilli(resetTime) + ", which is more than " + maxWait / 1000
+                                + " s away");
+                    }
+                    if (loggedResetTime != resetTime) {
+                        loggedResetTime = resetTime;
+                        log.warn("Only " + remaining + " requests of the GitHub rate limit are left, waiting "
+                                + (wait + 999) / 1000 + " s until it is reset at " + Instant.ofEpochMilli(resetTime));
+                    }
+                }
+                if (remaining > 0) {
+                    // count the requests in flight, their responses come too late to pace concurrent requests
+                    remaining--;
+                }
+            }
+            requests.incrementAndGet();
+
+            if (wait > 0) {
+                deferredTime.addAndGet(wait);
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for the GitHub rate limit reset");
+                }
+            }
+        }
+
+        /**
+         * Updates the budget from the rate limit headers of a response.
+         *
+         * @param headers gets the value of a response header, or <code>null</code> if the response does not have it
+         */
+        public synchronized void update(Function<String, String> headers) {
+            int newLimit = (int) parse(headers.apply("X-RateLimit-Limit"));
+            int newRemaining = (int) parse(headers.apply("X-RateLimit-Remaining"));
+            long newReset = parse(headers.apply("X-RateLimit-Reset"));
+            if (newLimit >= 0) {
+                limit = newLimit;
+            }
+            if (newRemaining < 0 || newReset < 0) {
+                return;
+            }
+            long newResetTime = newReset * 1000L;
+            if (newResetTime == resetTime && remaining >= 0) {
+                // responses of concurrent requests may arrive out of order
+                remaining = Math.min(remaining, newRemaining);
+            } else if (newResetTime >= resetTime) {
+                remaining = newRemaining;
+                resetTime = newResetTime;
+            }
+        }
+
+        private static long parse(String value) {
+            if (value == null) {
+                return -1;
+            }
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+
+        /**
+         * Sends the requests of a connector through this budget.
+         *
+         * @param connector the connector that sends the requests
+         * @param maxWait the longest time to wait for the reset, in milliseconds
+         * @param log logs the waits
+         * @return the governed connector
+         */
+        public GitHubConnector govern(GitHubConnector connector, long maxWait, Log log) {
+            return request -> {
+                acquire(maxWait, log);
+                GitHubConnectorResponse response = connector.send(request);
+                update(response::header);
+                return response;
+            };
+        }
+
+        /**
+         * @return the number of requests sent through this budget
+         */
+        public long getRequests() {
+            return requests.get();
+        }
+
+        /**
+         * @return the time requests have been deferred until the budget was reset, in milliseconds
+         */
+        public long getDeferredTime() {
+            return deferredTime.get();
+        }
+
+        /**
+         * @return the number of requests allowed per window, or <code>-1</code> if not known yet
+         */
+        public synchronized int getLimit() {
+            return limit;
+        }
+
+        /**
+         * @return the number of requests left in the current window, or <code>-1</code> if not known yet
+         */
+        public synchronized int getRemaining() {
+            return remaining;
+        }
+
+        /**
+         * @return the time at which the current window ends, in milliseconds since the epoch
+         */
+        public synchronized long getResetTime() {
+            return resetTime;
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(getRequests()).append(" requests sent");
+            if (remaining >= 0) {
+                sb.append(", ").append(remaining).append(" of ").append(limit).append(" remaining until ");
+                sb.append(Instant.ofEpochMilli(resetTime));
+            }
+            if (getDeferredTime() > 0) {
+                sb.append(", deferred for ").append(getDeferredTime() / 1000).append(" s");
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Gets the budget of a token, creating it on first use.
+     *
+     * @param key identifies the GitHub server, the token and the API, which all have their own budget
+     * @param reserve the number of requests kept in reserve, used on first use only
+     * @return the budget
+     */
+    public Budget get(String key, int reserve) {
+        return budgets.computeIfAbsent(key, k -> new Budget(reserve));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.issues;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A file based cache of HTTP responses together with their validators, the <code>ETag</code> and
+ * <code>Last-Modified</code> headers. A later request for the same resource replays the validators, and a
+ * <code>304 Not Modified</code> answer is served from the cached body.
+ *
+ * @since 3.0.0
+ */
+public class ConditionalRequestCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+
+    /**
+     * Thrown when a cache file holds values that it can not have been written with.
+     */
+    private static class CorruptedFileException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        CorruptedFileException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * A cached response.
+     */
+    public static class Entry {
+        private final String etag;
+
+        private final String lastModified;
+
+        private final Map<String, List<String>> headers;
+
+        private final byte[] body;
+
+        /**
+         * @param etag the <code>ETag</code> header of the response, or <code>null</code>
+         * @param lastModified the <code>Last-Modified</code> header of the response, or <code>null</code>
+         * @param headers the headers to restore when the response is served from the cache
+         * @param body the decoded body of the response
+         */
+        public Entry(String etag, String lastModified, Map<String, List<String>> headers, byte[] body) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public String getLastModified() {
+            return lastModified;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    public ConditionalRequestCache(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Computes a cache key that identifies a resource.
+     *
+     * @param parts everything that influences the response, like the URL and the credentials it is requested with
+     * @return the cache key
+     */
+    public static String getKey(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest.digest()) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Reads a cached response.
+     *
+     * @param key the cache key
+     * @return the response, or <code>null</code> if nothing is cached for the key, or if its cache file is corrupted
+     * @throws IOException if the cache file can not be read
+     */
+    public Entry read(String key) throws IOException {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        long fileLength = file.length();
+        Entry entry = null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            String etag = readString(in);
+            String lastModified = readString(in);
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = readLength(in, fileLength); i > 0; i--) {
+                String name = in.readUTF();
+                List<String> values = new ArrayList<>();
+                for (int j = readLength(in, fileLength); j > 0; j--) {
+                    values.add(in.readUTF());
+                }
+                headers.put(name, values);
+            }
+            byte[] body = new byte[readLength(in, fileLength)];
+            in.readFully(body);
+            entry = new Entry(etag, lastModified, headers, body);
+        } catch (EOFException | UTFDataFormatException | CorruptedFileException e) {
+            // a truncated or corrupted file is like a missing one
+        }
+        if (entry == null) {
+            Files.deleteIfExists(file.toPath());
+        }
+        return entry;
+    }
+
+    /**
+     * Writes a cached response. The file is replaced atomically, so that concurrent builds never read a partial entry.
+     *
+     * @param key the cache key
+     * @param entry the response to write
+     * @throws IOException if the cache file can not be written
+     */
+    public void write(String key, Entry entry) throws IOException {
+        Files.createDirectories(directory.toPath());
+        Path file = getFile(key).toPath();
+        Path tmpFile = Files.createTempFile(directory.toPath(), "response-", ".tmp");
+        try {
+            try (DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, entry.getETag());
+                writeString(out, entry.getLastModified());
+                Map<String, List<String>> headers =
+                        entry.getHeaders() == null ? Collections.emptyMap() : entry.getHeaders();
+                out.writeInt(headers.size());
+                for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                    out.writeUTF(header.getKey());
+                    out.writeInt(header.getValue().size());
+                    for (String value : header.getValue()) {
+                        out.writeUTF(value);
+                    }
+                }
+                out.writeInt(entry.getBody().length);
+                out.write(entry.getBody());
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, "response-" + key + ".bin");
+    }
+
+    /**
+     * Reads a count or a length, which can not exceed the size of the file it is read from.
+     *
+     * @throws CorruptedFileException if the value is out of bounds
+     */
+    private static int readLength(DataInputStream in, long fileLength) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > fileLength) {
+            throw new CorruptedFileException("Invalid length " + length);
+        }
+        return length;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.issues;
+
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.io.input.ProxyInputStream;
+
+/**
+ * Counts the bytes received from an issue tracker, both as transferred, possibly compressed, and once decoded. The
+ * counters can be updated by concurrent requests.
+ *
+ * @since 3.0.0
+ */
+public class DownloadStatistics {
+
+    private final AtomicLong transferredBytes = new AtomicLong();
+
+    private final AtomicLong decodedBytes = new AtomicLong();
+
+    /**
+     * Counts the bytes read from a response body as received from the network, before any decompression.
+     *
+     * @param in the raw response body
+     * @return the counting stream
+     */
+    public InputStream countTransferred(InputStream in) {
+        return new CountingStream(in, transferredBytes);
+    }
+
+    /**
+     * Counts the bytes read from a response body after it has been decompressed.
+     *
+     * @param in the decoded response body
+     * @return the counting stream
+     */
+    public InputStream countDecoded(InputStream in) {
+        return new CountingStream(in, decodedBytes);
+    }
+
+    public long getTransferredBytes() {
+        return transferredBytes.get();
+    }
+
+    public long getDecodedBytes() {
+        return decodedBytes.get();
+    }
+
+    @Override
+    public String toString() {
+        long transferred = getTransferredBytes();
+        long decoded = getDecodedBytes();
+        StringBuilder sb = new StringBuilder();
+        sb.append(transferred).append(" bytes transferred, ").append(decoded).append(" bytes decoded");
+        if (transferred > 0 && decoded > transferred) {
+            sb.append(String.format(Locale.ENGLISH, " (%.1f:1 compression)", (double) decoded / transferred));
+        }
+        return sb.toString();
+    }
+
+    private static class CountingStream extends ProxyInputStream {
+        private final AtomicLong counter;
+
+        CountingStream(InputStream in, AtomicLong counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        protected void afterRead(int n) {
+            if (n > 0) {
+                counter.addAndGet(n);
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.changes.ReleaseUtils;
 
 /**
  * A utility class for working with issue objects.
@@ -79,12 +80,7 @@ public class IssueUtils {
      */
     public static List<Issue> getIssuesForVersion(List<Issue> issues, String version) {
         List<Issue> issuesForVersion = new ArrayList<>();
-        String releaseVersion = version;
-
-        // Remove "-SNAPSHOT" from the end of the version, if it's there
-        if (version != null && version.endsWith(SNAPSHOT_SUFFIX)) {
-            releaseVersion = version.substring(0, version.length() - SNAPSHOT_SUFFIX.length());
-        }
+        String releaseVersion = ReleaseUtils.getReleaseVersion(version);
 
         for (Issue issue : issues) {
             if (issue.getFixVersions() != null && issue.getFixVersions().contains(releaseVersion)) {
@@ -20,11 +20,15 @@ package org.apache.maven.plugins.changes.jira;
 
 import javax.inject.Inject;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -69,6 +73,26 @@ public class JiraChangesReport extends AbstractChangesReport {
         JIRA_COLUMNS.put("Version", IssuesReportHelper.COLUMN_VERSION);
     }
 
+    /**
+     * The JIRA issue fields needed to render each column. Id and Key are always part of a search result.
+     */
+    private static final Map<Integer, String> JIRA_FIELDS = new HashMap<>(16);
+
+    static {
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_ASSIGNEE, "assignee");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_COMPONENT, "components");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_CREATED, "created");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_FIX_VERSION, "fixVersions");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_PRIORITY, "priority");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_REPORTER, "reporter");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_RESOLUTION, "resolution");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_STATUS, "status");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_SUMMARY, "summary");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_TYPE, "issuetype");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_UPDATED, "updated");
+        JIRA_FIELDS.put(IssuesReportHelper.COLUMN_VERSION, "versions");
+    }
+
     /**
      * Sets the names of the columns that you want in the report. The columns will appear in the report in the same
      * order as you specify them here. Multiple values can be separated by commas.
@@ -151,6 +175,82 @@ public class JiraChangesReport extends AbstractChangesReport {
     @Parameter(defaultValue = "100")
     private int maxEntries;
 
+    /**
+     * Number of issues requested from JIRA per search page. Issues are downloaded page by page until
+     * <code>maxEntries</code> issues have been fetched or the result set is exhausted. JIRA may cap the page size on
+     * its side, which is taken into account.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraPageSize", defaultValue = "50")
+    private int jiraPageSize;
+
+    /**
+     * Number of JIRA search pages fetched concurrently once the first page has returned the size of the result set.
+     * Pages are still reassembled in JQL order, so <code>sortColumnNames</code> is honoured. The default of
+     * <code>1</code> fetches pages sequentially.
+     * <p>
+     * This also sizes the pool of keep-alive connections to JIRA, which is shared with the other modules of the build
+     * together with the authenticated session, and always has room for at least six connections.
+     * </p>
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraConcurrency", defaultValue = "1")
+    private int jiraConcurrency;
+
+    /**
+     * If set to <code>true</code>, the issues downloaded from JIRA are cached in <code>jiraCacheDirectory</code>. Later
+     * executions with the same JIRA URL, project and query only download the issues that have been updated since the
+     * previous execution, and merge them into the cached issues. The cache is downloaded completely once a day, to pick
+     * up changes that JIRA does not record as an update, like deleted issues.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraCache", defaultValue = "false")
+    private boolean jiraCache;
+
+    /**
+     * The directory where JIRA issues are cached when <code>jiraCache</code> is enabled. The default location is shared
+     * by all the modules of a build and survives <code>mvn clean</code>.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraCacheDirectory", defaultValue = "${user.home}/.m2/changes-cache/jira")
+    private File jiraCacheDirectory;
+
+    /**
+     * The number of seconds the JIRA metadata used to resolve names to ids (components, versions, statuses, resolutions,
+     * issue types and priorities) is reused before it is downloaded again. The metadata is shared by all the modules of
+     * a build and, when <code>jiraCache</code> is enabled, persisted in <code>jiraCacheDirectory</code> together with
+     * its <code>ETag</code> and <code>Last-Modified</code> headers, so that expired metadata is only downloaded again
+     * if JIRA reports that it has changed. Set to <code>0</code> to always check it.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraMetadataCacheTtl", defaultValue = "3600")
+    private int jiraMetadataCacheTtl;
+
+    /**
+     * The number of times a request to JIRA that failed with a network error or a transient error status, like
+     * <code>429 Too Many Requests</code> or <code>503 Service Unavailable</code>, is retried. The delay between the
+     * attempts grows exponentially, or follows the <code>Retry-After</code> header sent by JIRA. Set to <code>0</code>
+     * to disable retries.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraMaxRetries", defaultValue = "3")
+    private int jiraMaxRetries;
+
+    /**
+     * The number of retries that all the modules of a build may make together against one JIRA server. Once JIRA has
+     * failed repeatedly, the following requests fail at once for a few minutes instead of waiting for time-outs.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.jiraRetryBudget", defaultValue = "20")
+    private int jiraRetryBudget;
+
     /**
      * If you only want to show issues for the current version in the report. The current version being used is
      * <code>${project.version}</code> minus any "-SNAPSHOT" suffix.
@@ -285,9 +385,31 @@ public class JiraChangesReport extends AbstractChangesReport {
      */
     private final SettingsDecrypter settingsDecrypter;
 
+    /**
+     * Cache of the JIRA metadata, shared by the modules of a build.
+     */
+    private final JiraMetadataCache jiraMetadataCache;
+
+    /**
+     * Pool of the HTTP clients used to talk to JIRA, shared by the modules of a build.
+     */
+    private final JiraHttpClientPool jiraClientPool;
+
+    /**
+     * Circuit breaker of the JIRA servers, shared by the modules of a build.
+     */
+    private final JiraCircuitBreaker jiraCircuitBreaker;
+
     @Inject
-    public JiraChangesReport(SettingsDecrypter settingsDecrypter) {
+    public JiraChangesReport(
+            SettingsDecrypter settingsDecrypter,
+            JiraMetadataCache jiraMetadataCache,
+            JiraHttpClientPool jiraClientPool,
+            JiraCircuitBreaker jiraCircuitBreaker) {
         this.settingsDecrypter = settingsDecrypter;
+        this.jiraMetadataCache = jiraMetadataCache;
+        this.jiraClientPool = jiraClientPool;
+        this.jiraCircuitBreaker = jiraCircuitBreaker;
     }
 
     /* --------------------------------------------------------------------- */
@@ -336,6 +458,7 @@ public class JiraChangesReport extends AbstractChangesReport {
                 issueDownloader = new RestJiraDownloader();
             }
             configureIssueDownloader(issueDownloader);
+            issueDownloader.setFields(getJiraFields(columnIds));
             issueDownloader.doExecute();
 
             List<Issue> issueList = issueDownloader.getIssueList();
@@ -386,6 +509,25 @@ public class JiraChangesReport extends AbstractChangesReport {
         return ResourceBundle.getBundle("jira-report", locale, this.getClass().getClassLoader());
     }
 
+    /**
+     * Get the JIRA fields to retrieve, so that only the data that ends up in the report is downloaded.
+     *
+     * @param columnIds the ids of the columns in the report
+     * @return the names of the JIRA fields
+     */
+    private List<String> getJiraFields(List<Integer> columnIds) {
+        Set<String> fields = new LinkedHashSet<>();
+        // needed to filter the issues by version
+        fields.add("fixVersions");
+        for (Integer columnId : columnIds) {
+            String field = JIRA_FIELDS.get(columnId);
+            if (field != null) {
+                fields.add(field);
+            }
+        }
+        return new ArrayList<>(fields);
+    }
+
     private void configureIssueDownloader(RestJiraDownloader issueDownloader) {
         issueDownloader.setLog(getLog());
 
@@ -393,6 +535,22 @@ public class JiraChangesReport extends AbstractChangesReport {
 
         issueDownloader.setNbEntries(maxEntries);
 
+        issueDownloader.setPageSize(jiraPageSize);
+
+        issueDownloader.setConcurrency(jiraConcurrency);
+
+        issueDownloader.setCacheDirectory(jiraCache ? jiraCacheDirectory : null);
+
+        issueDownloader.setMetadataCache(jiraMetadataCache, jiraMetadataCacheTtl * 1000L);
+
+        issueDownloader.setClientPool(jiraClientPool);
+
+        issueDownloader.setMaxRetries(jiraMaxRetries);
+
+        issueDownloader.setRetryBudget(jiraRetryBudget);
+
+        issueDownloader.setCircuitBreaker(jiraCircuitBreaker);
+
         issueDownloader.setComponent(component);
 
         issueDownloader.setFixVersionIds(fixVersionIds);
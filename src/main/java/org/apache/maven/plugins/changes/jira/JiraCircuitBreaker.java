@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.jira;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the health of the JIRA servers used by a build. The modules of a build share a budget of retries for each
+ * server, and once a server has failed repeatedly its circuit opens: requests fail at once instead of waiting for
+ * time-outs in every module, until a request is let through again after a pause.
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class JiraCircuitBreaker {
+
+    /** The number of consecutive failed requests after which the circuit of a server opens. */
+    static final int FAILURE_THRESHOLD = 5;
+
+    /** The time during which requests fail at once after the circuit has opened, in milliseconds. */
+    static final long OPEN_TIME = 5L * 60 * 1000;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * The state of one JIRA server.
+     */
+    public static class Circuit {
+        private int retryBudget;
+
+        private int consecutiveFailures;
+
+        private long openUntil;
+
+        public Circuit(int retryBudget) {
+            this.retryBudget = retryBudget;
+        }
+
+        /**
+         * Tells whether a request may be sent to the server.
+         *
+         * @return <code>false</code> if the circuit is open
+         */
+        public synchronized boolean isClosed() {
+            return System.currentTimeMillis() >= openUntil;
+        }
+
+        /**
+         * Records that the server has answered normally, which closes the circuit.
+         */
+        public synchronized void recordSuccess() {
+            consecutiveFailures = 0;
+            openUntil = 0;
+        }
+
+        /**
+         * Records that a request has failed, which opens the circuit if it has happened too often in a row.
+         */
+        public synchronized void recordFailure() {
+            consecutiveFailures++;
+            if (consecutiveFailures >= FAILURE_THRESHOLD) {
+                openUntil = System.currentTimeMillis() + OPEN_TIME;
+            }
+        }
+
+        /**
+         * Takes one retry from the budget shared by the modules of the build.
+         *
+         * @return <code>false</code> if the budget is exhausted
+         */
+        public synchronized boolean takeRetry() {
+            if (retryBudget <= 0) {
+                return false;
+            }
+            retryBudget--;
+            return true;
+        }
+    }
+
+    /**
+     * Gets the circuit of a server, creating it on first use.
+     *
+     * @param jiraUrl the URL of the JIRA server
+     * @param retryBudget the number of retries the modules of the build may make together, used on first use only
+     * @return the circuit
+     */
+    public Circuit get(String jiraUrl, int retryBudget) {
+        return circuits.computeIfAbsent(jiraUrl, k -> new Circuit(retryBudget));
+    }
+}
@@ -35,7 +35,11 @@ import org.apache.maven.settings.crypto.SettingsDecrypter;
 public class JiraDeprecatedReport extends JiraChangesReport {
 
     @Inject
-    public JiraDeprecatedReport(SettingsDecrypter settingsDecrypter) {
-        super(settingsDecrypter);
+    public JiraDeprecatedReport(
+            SettingsDecrypter settingsDecrypter,
+            JiraMetadataCache jiraMetadataCache,
+            JiraHttpClientPool jiraClientPool,
+            JiraCircuitBreaker jiraCircuitBreaker) {
+        super(settingsDecrypter, jiraMetadataCache, jiraClientPool, jiraCircuitBreaker);
     }
 }
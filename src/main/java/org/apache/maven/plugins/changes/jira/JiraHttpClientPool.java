@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.jira;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
+
+/**
+ * Keeps the HTTP clients used to talk to JIRA open for the whole build, so that the modules of a build reuse the
+ * pooled keep-alive connections and the authenticated session of the previous modules instead of connecting and
+ * logging in again.
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class JiraHttpClientPool implements Disposable {
+
+    /** The time after which a session is authenticated again, as JIRA may have expired it in the meantime. */
+    private static final long SESSION_REUSE_TIME = 10L * 60 * 1000;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * A client together with the state of its JIRA session.
+     */
+    public static class Connection {
+        private final CloseableHttpClient client;
+
+        private String sessionUser;
+
+        private long sessionTime;
+
+        public Connection(CloseableHttpClient client) {
+            this.client = client;
+        }
+
+        public CloseableHttpClient getClient() {
+            return client;
+        }
+
+        /**
+         * Tells whether the session of this connection is already authenticated as the given user.
+         *
+         * @param user the JIRA user
+         * @return <code>true</code> if there is no need to log in again
+         */
+        public synchronized boolean isAuthenticated(String user) {
+            return user.equals(sessionUser) && System.currentTimeMillis() - sessionTime < SESSION_REUSE_TIME;
+        }
+
+        /**
+         * Records that the session of this connection has been authenticated.
+         *
+         * @param user the JIRA user
+         */
+        public synchronized void setAuthenticated(String user) {
+            sessionUser = user;
+            sessionTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Gets the connection for a key, creating its client on first use. The client must not be closed by the caller.
+     *
+     * @param key identifies everything the client is configured with, like the JIRA URL, user, proxy and timeouts
+     * @param clientFactory creates the client
+     * @return the connection
+     */
+    public Connection get(String key, Supplier<CloseableHttpClient> clientFactory) {
+        return connections.computeIfAbsent(key, k -> new Connection(clientFactory.get()));
+    }
+
+    @Override
+    public void dispose() {
+        for (Connection connection : connections.values()) {
+            try {
+                connection.getClient().close();
+            } catch (IOException e) {
+                // nothing left to do with it
+            }
+        }
+        connections.clear();
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.jira;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
+import org.apache.maven.plugins.changes.issues.Issue;
+
+/**
+ * A file based cache of the issues downloaded from JIRA. Each entry holds the issues of one query together with the
+ * time they were synchronized, so that a later execution only has to download what has been updated since.
+ *
+ * @since 3.0.0
+ */
+public class JiraIssueCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * The cached issues of one query.
+     */
+    public static class Entry {
+        private final long fullSyncTime;
+
+        private final long syncTime;
+
+        private final List<Issue> issues;
+
+        /**
+         * @param fullSyncTime when all the issues were last downloaded, in milliseconds since the epoch
+         * @param syncTime when the issues were last synchronized with JIRA, in milliseconds since the epoch
+         * @param issues the issues, in JQL order
+         */
+        public Entry(long fullSyncTime, long syncTime, List<Issue> issues) {
+            this.fullSyncTime = fullSyncTime;
+            this.syncTime = syncTime;
+            this.issues = issues;
+        }
+
+        public long getFullSyncTime() {
+            return fullSyncTime;
+        }
+
+        public long getSyncTime() {
+            return syncTime;
+        }
+
+        public List<Issue> getIssues() {
+            return issues;
+        }
+    }
+
+    public JiraIssueCache(File directory, JsonFactory jsonFactory) {
+        this.directory = directory;
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Computes a cache key that identifies a query.
+     *
+     * @param parts everything that influences the result of the query, like the JIRA URL, project and JQL
+     * @return the cache key
+     */
+    public static String getKey(String... parts) {
+        return ConditionalRequestCache.getKey(parts);
+    }
+
+    /**
+     * Reads a cache entry.
+     *
+     * @param key the cache key
+     * @return the entry, or <code>null</code> if nothing is cached for the key
+     * @throws IOException if the cache file can not be read
+     */
+    public Entry read(String key) throws IOException {
+        File file = getFile(key);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        int version = 0;
+        long fullSyncTime = 0;
+        long syncTime = 0;
+        List<Issue> issues = new ArrayList<>();
+        try (InputStream in = Files.newInputStream(file.toPath());
+                JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if ("version".equals(fieldName)) {
+                    version = parser.getIntValue();
+                } else if ("fullSyncTime".equals(fieldName)) {
+                    fullSyncTime = parser.getLongValue();
+                } else if ("syncTime".equals(fieldName)) {
+                    syncTime = parser.getLongValue();
+                } else if ("issues".equals(fieldName)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        issues.add(readIssue(parser.readValueAsTree()));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return version == FORMAT_VERSION ? new Entry(fullSyncTime, syncTime, issues) : null;
+    }
+
+    /**
+     * Writes a cache entry. The file is replaced atomically, so that concurrent builds never read a partial entry.
+     *
+     * @param key the cache key
+     * @param entry the entry to write
+     * @throws IOException if the cache file can not be written
+     */
+    public void write(String key, Entry entry) throws IOException {
+        Files.createDirectories(directory.toPath());
+        Path file = getFile(key).toPath();
+        Path tmpFile = Files.createTempFile(directory.toPath(), key, ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmpFile);
+                    JsonGenerator gen = jsonFactory.createGenerator(out)) {
+                gen.writeStartObject();
+                gen.writeNumberField("version", FORMAT_VERSION);
+                gen.writeNumberField("fullSyncTime", entry.getFullSyncTime());
+                gen.writeNumberField("syncTime", entry.getSyncTime());
+                gen.writeArrayFieldStart("issues");
+                for (Issue issue : entry.getIssues()) {
+                    writeIssue(gen, issue);
+                }
+                gen.writeEndArray();
+                gen.writeEndObject();
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
+    private File getFile(String key) {
+        return new File(directory, key + ".json");
+    }
+
+    private static void writeIssue(JsonGenerator gen, Issue issue) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, "id", issue.getId());
+        writeString(gen, "key", issue.getKey());
+        writeString(gen, "link", issue.getLink());
+        writeString(gen, "assignee", issue.getAssignee());
+        writeList(gen, "components", issue.getComponents());
+        writeDate(gen, "created", issue.getCreated());
+        writeList(gen, "fixVersions", issue.getFixVersions());
+        writeString(gen, "priority", issue.getPriority());
+        writeString(gen, "reporter", issue.getReporter());
+        writeString(gen, "resolution", issue.getResolution());
+        writeString(gen, "status", issue.getStatus());
+        writeString(gen, "summary", issue.getSummary());
+        writeString(gen, "type", issue.getType());
+        writeDate(gen, "updated", issue.getUpdated());
+        writeString(gen, "version", issue.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, String name, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, String name, Date value) throws IOException {
+        if (value != null) {
+            gen.writeNumberField(name, value.getTime());
+        }
+    }
+
+    private static void writeList(JsonGenerator gen, String name, List<String> values) throws IOException {
+        if (values != null) {
+            gen.writeArrayFieldStart(name);
+            for (String value : values) {
+                gen.writeString(value);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static Issue readIssue(JsonNode node) {
+        Issue issue = new Issue();
+        issue.setId(readString(node, "id"));
+        issue.setKey(readString(node, "key"));
+        issue.setLink(readString(node, "link"));
+        issue.setAssignee(readString(node, "assignee"));
+        node.path("components").forEach(component -> issue.addComponent(component.asText()));
+        issue.setCreated(readDate(node, "created"));
+        node.path("fixVersions").forEach(fixVersion -> issue.addFixVersion(fixVersion.asText()));
+        issue.setPriority(readString(node, "priority"));
+        issue.setReporter(readString(node, "reporter"));
+        issue.setResolution(readString(node, "resolution"));
+        issue.setStatus(readString(node, "status"));
+        issue.setSummary(readString(node, "summary"));
+        issue.setType(readString(node, "type"));
+        issue.setUpdated(readDate(node, "updated"));
+        issue.setVersion(readString(node, "version"));
+        return issue;
+    }
+
+    private static String readString(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private static Date readDate(JsonNode node, String name) {
+        JsonNode value = node.get(name);
+        return value == null || value.isNull() ? null : new Date(value.asLong());
+    }
+}
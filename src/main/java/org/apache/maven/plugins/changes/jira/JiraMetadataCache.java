@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.jira;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+
+/**
+ * Keeps the JIRA metadata lists (components, versions, statuses, resolutions, issue types and priorities) that are
+ * used to resolve names to ids, so that the modules of a build do not download them again. Entries expire after a
+ * time to live, and can optionally be persisted in a directory to be reused by later builds.
+ *
+ * @since 3.0.0
+ */
+@Named
+@Singleton
+public class JiraMetadataCache {
+
+    private final JsonFactory jsonFactory = new MappingJsonFactory();
+
+    private final Map<String, Metadata> entries = new ConcurrentHashMap<>();
+
+    /**
+     * One metadata list, indexed by id and by name.
+     */
+    public static class Metadata {
+        private final long loadTime;
+
+        private final JsonNode items;
+
+        private final Set<String> ids = new HashSet<>();
+
+        private final Map<String, String> idsByName = new HashMap<>();
+
+        /**
+         * Indexes a metadata list as returned by the JIRA REST API.
+         *
+         * @param loadTime when the list was downloaded, in milliseconds since the epoch
+         * @param items the JSON array of items, each having an "id" and a "name"
+         */
+        public Metadata(long loadTime, JsonNode items) {
+            this.loadTime = loadTime;
+            this.items = items;
+            for (JsonNode item : items) {
+                String id = item.path("id").asText();
+                ids.add(id);
+                idsByName.putIfAbsent(item.path("name").asText(), id);
+            }
+        }
+
+        public long getLoadTime() {
+            return loadTime;
+        }
+
+        /**
+         * Resolves a name or an id to an id.
+         *
+         * @param nameOrId the name or id of an item
+         * @return the id of the item, or <code>null</code> if there is no such item
+         */
+        public String resolve(String nameOrId) {
+            return ids.contains(nameOrId) ? nameOrId : idsByName.get(nameOrId);
+        }
+
+        private void write(JsonGenerator gen) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("loadTime", loadTime);
+            gen.writeFieldName("items");
+            gen.writeTree(items);
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Gets a metadata list that is younger than the time to live.
+     *
+     * @param key identifies the list, like its REST URL and the user it is downloaded as
+     * @param timeToLive the time to live in milliseconds
+     * @param directory the directory the list may have been persisted in, or <code>null</code>
+     * @return the list, or <code>null</code> if it is not cached or expired
+     */
+    public Metadata get(String key, long timeToLive, File directory) {
+        long now = System.currentTimeMillis();
+        Metadata metadata = entries.get(key);
+        if (metadata == null && directory != null) {
+            metadata = read(getFile(key, directory));
+            if (metadata != null) {
+                entries.putIfAbsent(key, metadata);
+            }
+        }
+        if (metadata == null || now - metadata.getLoadTime() > timeToLive) {
+            return null;
+        }
+        return metadata;
+    }
+
+    /**
+     * Caches a metadata list.
+     *
+     * @param key identifies the list, like its REST URL and the user it is downloaded as
+     * @param metadata the list
+     * @param directory the directory to persist the list in, or <code>null</code>
+     * @throws IOException if the list can not be persisted
+     */
+    public void put(String key, Metadata metadata, File directory) throws IOException {
+        entries.put(key, metadata);
+        if (directory != null) {
+            Files.createDirectories(directory.toPath());
+            Path file = getFile(key, directory).toPath();
+            Path tmpFile = Files.createTempFile(directory.toPath(), "metadata-", ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(tmpFile);
+                        JsonGenerator gen = jsonFactory.createGenerator(out)) {
+                    metadata.write(gen);
+                }
+                Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        }
+    }
+
+    private Metadata read(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file.toPath());
+                JsonParser parser = jsonFactory.createParser(in)) {
+            JsonNode node = parser.readValueAsTree();
+            return new Metadata(node.path("loadTime").asLong(), node.path("items"));
+        } catch (IOException e) {
+            // an unreadable file is like a missing one
+            return null;
+        }
+    }
+
+    private static File getFile(String key, File directory) {
+        return new File(directory, "metadata-" + JiraIssueCache.getKey(key) + ".json");
+    }
+}
@@ -18,24 +18,38 @@
  */
 package org.apache.maven.plugins.changes.jira;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.StringWriter;
 import java.net.URI;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
+import org.apache.http.Header;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
@@ -47,7 +61,11 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.utils.DateUtils;
 import org.apache.http.entity.ContentType;
+import org.apache.http.entity.HttpEntityWrapper;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.BasicCredentialsProvider;
@@ -55,11 +73,15 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.changes.ReleaseUtils;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
+import org.apache.maven.plugins.changes.issues.DownloadStatistics;
 import org.apache.maven.plugins.changes.issues.Issue;
-import org.apache.maven.plugins.changes.issues.IssueUtils;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.settings.Proxy;
 import org.apache.maven.settings.Server;
@@ -75,6 +97,60 @@ import org.apache.maven.settings.crypto.SettingsDecryptionResult;
  */
 public class RestJiraDownloader {
 
+    /** The default number of issues requested per search page, which is also JIRA's usual server-side cap. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /** The fields of a search that only needs the issue keys, "id" and "key" are always returned. */
+    private static final List<String> KEY_FIELDS = Collections.singletonList("id");
+
+    /** The cache is downloaded completely after this many milliseconds, to notice changes that JIRA does not date. */
+    private static final long CACHE_FULL_REFRESH_INTERVAL = 24L * 60 * 60 * 1000;
+
+    /** The number of minutes added to the window of updated issues, as relative JQL dates have a minute precision. */
+    private static final long CACHE_SYNC_MARGIN_MINUTES = 5;
+
+    /** The number of seconds a pooled connection may stay idle before it is closed. */
+    private static final long IDLE_CONNECTION_TIMEOUT = 30;
+
+    /** The number of metadata lists that may be needed to resolve names to ids. */
+    private static final int METADATA_LISTS = 6;
+
+    /** The default number of times a failed request is retried. */
+    public static final int DEFAULT_MAX_RETRIES = 3;
+
+    /** The default number of retries that all the modules of a build may make together against one JIRA server. */
+    public static final int DEFAULT_RETRY_BUDGET = 20;
+
+    /** The ceiling of the delay before the first retry, in milliseconds, which doubles with each retry. */
+    private static final long INITIAL_BACKOFF = 1000;
+
+    /** The maximum ceiling of the delay before a retry, in milliseconds. */
+    private static final long MAX_BACKOFF = 30000;
+
+    /** Requests are not retried if JIRA asks to wait longer than this, in milliseconds. */
+    private static final long MAX_RETRY_DELAY = 120000;
+
+    /** The status code of a rate limited request, which HttpStatus does not define. */
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    /** The request context attribute holding the statistics of the execution that sent the request. */
+    private static final String DOWNLOAD_STATISTICS = DownloadStatistics.class.getName();
+
+    /** All the issue fields that are read when building an {@link Issue} from a search result. */
+    public static final List<String> ISSUE_FIELDS = Collections.unmodifiableList(Arrays.asList(
+            "assignee",
+            "components",
+            "created",
+            "fixVersions",
+            "issuetype",
+            "priority",
+            "reporter",
+            "resolution",
+            "status",
+            "summary",
+            "updated",
+            "versions"));
+
     /** Log for debug output. */
     private Log log;
 
@@ -95,6 +171,38 @@ public class RestJiraDownloader {
     /** The maximum number of entries to show. */
     protected int nbEntriesMax;
 
+    /** The number of issues to request per search page. */
+    protected int pageSize = DEFAULT_PAGE_SIZE;
+
+    /** The number of search pages to fetch concurrently. */
+    protected int concurrency = 1;
+
+    /** The issue fields to retrieve with each search, "id" and "key" are always returned. */
+    protected List<String> fields = ISSUE_FIELDS;
+
+    /** The directory to cache issues in, or <code>null</code> to always download all issues. */
+    protected File cacheDirectory;
+
+    /** Shares the HTTP clients between executions, or <code>null</code> to use a new client for each execution. */
+    private JiraHttpClientPool clientPool;
+
+    /** The number of times a failed request is retried. */
+    protected int maxRetries = DEFAULT_MAX_RETRIES;
+
+    /** The number of retries that the executions sharing the circuit breaker may make together. */
+    protected int retryBudget = DEFAULT_RETRY_BUDGET;
+
+    /** Shares the health of JIRA between executions, or <code>null</code> to track it for this execution only. */
+    private JiraCircuitBreaker circuitBreaker;
+
+    private JiraCircuitBreaker.Circuit circuit;
+
+    /** Shares the JIRA metadata lists between executions, or <code>null</code> to always download them. */
+    private JiraMetadataCache metadataCache;
+
+    /** The time to live of cached metadata lists, in milliseconds. */
+    protected long metadataCacheTtl;
+
     /** The filter to apply to query to JIRA. */
     protected String filter;
 
@@ -136,9 +244,11 @@ public class RestJiraDownloader {
 
     private List<Issue> issueList;
 
+    private DownloadStatistics downloadStatistics = new DownloadStatistics();
+
     private JsonFactory jsonFactory;
 
-    private SimpleDateFormat dateFormat;
+    private DateTimeFormatter dateFormat;
 
     private List<String> resolvedFixVersionIds;
 
@@ -165,11 +275,7 @@ public class RestJiraDownloader {
             String version = (versionPrefix == null ? "" : versionPrefix) + project.getVersion();
 
             // Remove "-SNAPSHOT" from the end of the version, if it's there
-            if (version.endsWith(IssueUtils.SNAPSHOT_SUFFIX)) {
-                return version.substring(0, version.length() - IssueUtils.SNAPSHOT_SUFFIX.length());
-            } else {
-                return version;
-            }
+            return ReleaseUtils.getReleaseVersion(version);
         } else {
             return null;
         }
@@ -221,6 +327,95 @@ public class RestJiraDownloader {
         nbEntriesMax = nbEntries;
     }
 
+    /**
+     * Sets the number of Issues to request per search page.
+     *
+     * @param pageSize The number of Issues per page
+     */
+    public void setPageSize(final int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Sets the number of search pages to fetch concurrently once the size of the result set is known.
+     *
+     * @param concurrency The number of concurrent page requests, <code>1</code> fetches pages sequentially
+     */
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Sets the issue fields to retrieve with each search. Fields that are not retrieved are left empty in the
+     * resulting Issues.
+     *
+     * @param fields The names of the JIRA fields, a subset of {@link #ISSUE_FIELDS}
+     */
+    public void setFields(List<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Sets the directory to cache issues in. When set, later executions of the same query only download the issues
+     * that have been updated in the meantime, and the metadata lists are revalidated with their ETag or Last-Modified
+     * header instead of being downloaded again.
+     *
+     * @param cacheDirectory The cache directory, or <code>null</code> to disable caching
+     */
+    public void setCacheDirectory(File cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Sets the pool of HTTP clients to share connections and the authenticated JIRA session with other executions.
+     *
+     * @param clientPool The client pool, or <code>null</code> to use a new client for this execution only
+     */
+    public void setClientPool(JiraHttpClientPool clientPool) {
+        this.clientPool = clientPool;
+    }
+
+    /**
+     * Sets how often a request that failed with a network error or a transient error status, like 429 or 503, is
+     * retried.
+     *
+     * @param maxRetries The number of retries of each request, <code>0</code> disables retries
+     */
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * Sets the number of retries that all the executions sharing the circuit breaker may make together.
+     *
+     * @param retryBudget The number of retries, only used by the first execution that talks to a JIRA server
+     */
+    public void setRetryBudget(int retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
+    /**
+     * Sets the circuit breaker that shares the retry budget and the health of JIRA with other executions, so that
+     * they fail at once when JIRA is down.
+     *
+     * @param circuitBreaker The circuit breaker, or <code>null</code> to track the health of JIRA for this execution
+     */
+    public void setCircuitBreaker(JiraCircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Sets the cache for the metadata lists used to resolve names to ids, like components and statuses. The lists are
+     * also persisted in the cache directory, if there is one.
+     *
+     * @param metadataCache The metadata cache, or <code>null</code> to always download the lists
+     * @param timeToLive The time to live of the cached lists, in milliseconds
+     */
+    public void setMetadataCache(JiraMetadataCache metadataCache, long timeToLive) {
+        this.metadataCache = metadataCache;
+        this.metadataCacheTtl = timeToLive;
+    }
+
     /**
      * Sets the statusIds.
      *
@@ -338,7 +533,7 @@ public class RestJiraDownloader {
     public RestJiraDownloader() {
         jsonFactory = new MappingJsonFactory();
         // 2012-07-17T06:26:47.723-0500
-        dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        dateFormat = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
         resolvedFixVersionIds = new ArrayList<>();
         resolvedStatusIds = new ArrayList<>();
         resolvedComponentIds = new ArrayList<>();
@@ -354,12 +549,36 @@ public class RestJiraDownloader {
         String jiraUrl = urlMap.get("url");
         String jiraProject = urlMap.get("project");
 
-        try (CloseableHttpClient client = setupHttpClient(jiraUrl)) {
-            checkRestApi(client, jiraUrl);
-            doSessionAuth(client, jiraUrl);
-            resolveIds(client, jiraUrl, jiraProject);
-            search(client, jiraProject, jiraUrl);
+        configureCredentials();
+        Proxy proxy = getProxy(jiraUrl);
+        downloadStatistics = new DownloadStatistics();
+        circuit = (circuitBreaker == null ? new JiraCircuitBreaker() : circuitBreaker).get(jiraUrl, retryBudget);
+
+        if (clientPool == null) {
+            try (CloseableHttpClient client = setupHttpClient(jiraUrl, proxy)) {
+                execute(new JiraHttpClientPool.Connection(client), jiraUrl, jiraProject);
+            }
+        } else {
+            String clientKey = String.join(
+                    "\n",
+                    jiraUrl,
+                    String.valueOf(jiraUser),
+                    proxy == null ? "" : proxy.getHost() + ':' + proxy.getPort() + ':' + proxy.getUsername(),
+                    String.valueOf(connectionTimeout),
+                    String.valueOf(receiveTimout),
+                    String.valueOf(getMaxConnections()));
+            execute(clientPool.get(clientKey, () -> setupHttpClient(jiraUrl, proxy)), jiraUrl, jiraProject);
         }
+        log.debug("Downloaded from JIRA: " + downloadStatistics);
+    }
+
+    private void execute(JiraHttpClientPool.Connection connection, String jiraUrl, String jiraProject)
+            throws Exception {
+        CloseableHttpClient client = connection.getClient();
+        checkRestApi(client, jiraUrl);
+        doSessionAuth(connection, jiraUrl);
+        resolveIds(client, jiraUrl, jiraProject);
+        search(client, jiraProject, jiraUrl);
     }
 
     private void search(CloseableHttpClient client, String jiraProject, String jiraUrl)
@@ -380,14 +599,229 @@ public class RestJiraDownloader {
 
         log.debug("JIRA jql=" + jqlQuery);
 
+        if (cacheDirectory == null) {
+            issueList = searchIssues(client, jiraUrl, jqlQuery, fields);
+            return;
+        }
+
+        JiraIssueCache cache = new JiraIssueCache(cacheDirectory, jsonFactory);
+        // the issues a user may see depend on its permissions, never share them with another user
+        String cacheKey = JiraIssueCache.getKey(
+                jiraUrl,
+                String.valueOf(jiraUser),
+                jiraProject,
+                jqlQuery,
+                String.valueOf(nbEntriesMax),
+                String.join(",", fields));
+        long syncTime = System.currentTimeMillis();
+
+        JiraIssueCache.Entry entry = null;
+        try {
+            entry = cache.read(cacheKey);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable JIRA issue cache in " + cacheDirectory + ": " + e.getMessage());
+        }
+
+        long fullSyncTime = syncTime;
+        issueList = null;
+        if (entry != null) {
+            issueList = refreshCachedIssues(client, jiraUrl, jiraProject, jqlQuery, entry, syncTime);
+            if (issueList != null) {
+                fullSyncTime = entry.getFullSyncTime();
+            }
+        }
+        if (issueList == null) {
+            issueList = searchIssues(client, jiraUrl, jqlQuery, fields);
+        }
+
+        try {
+            cache.write(cacheKey, new JiraIssueCache.Entry(fullSyncTime, syncTime, issueList));
+        } catch (IOException e) {
+            log.warn("Could not write the JIRA issue cache in " + cacheDirectory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Brings cached issues up to date by only downloading the issues updated since the previous synchronization.
+     *
+     * @return the refreshed issues in JQL order, or <code>null</code> if all the issues must be downloaded again
+     */
+    private List<Issue> refreshCachedIssues(
+            CloseableHttpClient client,
+            String jiraUrl,
+            String jiraProject,
+            String jqlQuery,
+            JiraIssueCache.Entry entry,
+            long syncTime)
+            throws IOException, MojoExecutionException {
+        if (syncTime < entry.getSyncTime() || syncTime - entry.getFullSyncTime() > CACHE_FULL_REFRESH_INTERVAL) {
+            return null;
+        }
+
+        // A relative date is evaluated with the clock of the JIRA server, so it does not depend on time zones
+        long minutes = (syncTime - entry.getSyncTime()) / 60000L + CACHE_SYNC_MARGIN_MINUTES;
+        String updatedClause = "updated >= -" + minutes + "m";
+
+        if (filter == null || filter.isEmpty()) {
+            // Every issue of a generated query belongs to the project, so nothing changed if no issue was updated.
+            // Only the emptiness of the result matters, so a single key is asked for.
+            String changedQuery =
+                    new JqlQueryBuilder(log).urlEncode(false).project(jiraProject).build() + " AND " + updatedClause;
+            List<Issue> changedIssues = new ArrayList<>(1);
+            searchPage(client, jiraUrl, changedQuery, KEY_FIELDS, 0, 1, changedIssues);
+            if (changedIssues.isEmpty()) {
+                log.info("Using " + entry.getIssues().size() + " cached JIRA issues, none has been updated.");
+                return entry.getIssues();
+            }
+        }
+
+        Map<String, Issue> issuesByKey = new HashMap<>();
+        for (Issue issue : entry.getIssues()) {
+            issuesByKey.put(issue.getKey(), issue);
+        }
+
+        String whereClause = getWhereClause(jqlQuery);
+        String deltaQuery = whereClause.isEmpty() ? updatedClause : "(" + whereClause + ") AND " + updatedClause;
+        List<Issue> updatedIssues = searchIssues(client, jiraUrl, deltaQuery, fields);
+        for (Issue issue : updatedIssues) {
+            issuesByKey.put(issue.getKey(), issue);
+        }
+
+        // Only the keys are downloaded to learn which issues still match, and in which order
+        List<Issue> refreshedIssues = new ArrayList<>();
+        for (Issue keyOnly : searchIssues(client, jiraUrl, jqlQuery, KEY_FIELDS)) {
+            Issue issue = issuesByKey.get(keyOnly.getKey());
+            if (issue == null) {
+                log.debug("JIRA issue " + keyOnly.getKey() + " is not cached, downloading all issues again");
+                return null;
+            }
+            refreshedIssues.add(issue);
+        }
+        log.info("Merged " + updatedIssues.size() + " updated JIRA issues into " + entry.getIssues().size()
+                + " cached issues.");
+        return refreshedIssues;
+    }
+
+    private static String getWhereClause(String jqlQuery) {
+        int index = jqlQuery.toUpperCase(Locale.ENGLISH).lastIndexOf("ORDER BY");
+        return (index < 0 ? jqlQuery : jqlQuery.substring(0, index)).trim();
+    }
+
+    /**
+     * Walks the result set of a query page by page, JIRA caps maxResults on its side anyway.
+     *
+     * @return at most <code>nbEntriesMax</code> issues, in JQL order
+     */
+    private List<Issue> searchIssues(CloseableHttpClient client, String jiraUrl, String jqlQuery, List<String> fields)
+            throws IOException, MojoExecutionException {
+        List<Issue> issues = new ArrayList<>();
+        int startAt = 0;
+        int total = Integer.MAX_VALUE;
+        while (issues.size() < nbEntriesMax && startAt < total) {
+            int maxResults = Math.min(Math.max(pageSize, 1), nbEntriesMax - issues.size());
+            int before = issues.size();
+            total = searchPage(client, jiraUrl, jqlQuery, fields, startAt, maxResults, issues);
+            int fetched = issues.size() - before;
+            if (fetched == 0) {
+                break;
+            }
+            startAt += fetched;
+            log.debug("Fetched " + issues.size() + " of " + total + " issues from JIRA");
+
+            if (concurrency > 1 && startAt == fetched) {
+                // The first page tells us the total and the effective page size, so the remaining offsets are known
+                searchRemainingPages(client, jiraUrl, jqlQuery, fields, fetched, Math.min(total, nbEntriesMax), issues);
+                break;
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Fetches the pages following the first one concurrently, then appends them to the issue list in JQL order.
+     */
+    private void searchRemainingPages(
+            CloseableHttpClient client,
+            String jiraUrl,
+            String jqlQuery,
+            List<String> fields,
+            int effectivePageSize,
+            int target,
+            List<Issue> issues)
+            throws IOException, MojoExecutionException {
+        List<Callable<List<Issue>>> pages = new ArrayList<>();
+        for (int offset = effectivePageSize; offset < target; offset += effectivePageSize) {
+            final int startAt = offset;
+            final int maxResults = Math.min(effectivePageSize, target - offset);
+            pages.add(() -> {
+                List<Issue> page = new ArrayList<>(maxResults);
+                searchPage(client, jiraUrl, jqlQuery, fields, startAt, maxResults, page);
+                return page;
+            });
+        }
+        if (pages.isEmpty()) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, pages.size()));
+        try {
+            List<Future<List<Issue>>> futures = new ArrayList<>(pages.size());
+            for (Callable<List<Issue>> page : pages) {
+                futures.add(executor.submit(page));
+            }
+            for (Future<List<Issue>> future : futures) {
+                issues.addAll(getResult(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        log.debug("Fetched " + issues.size() + " issues from JIRA using " + pages.size() + " concurrent pages");
+    }
+
+    private static <T> T getResult(Future<T> future) throws IOException, MojoExecutionException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException("Interrupted while querying JIRA", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof MojoExecutionException) {
+                throw (MojoExecutionException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MojoExecutionException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Fetches one page of the search result and appends its issues to the given list.
+     *
+     * @return the total number of issues matching the query, as reported by JIRA
+     */
+    private int searchPage(
+            CloseableHttpClient client,
+            String jiraUrl,
+            String jqlQuery,
+            List<String> fields,
+            int startAt,
+            int maxResults,
+            List<Issue> targetList)
+            throws IOException, MojoExecutionException {
         StringWriter searchParamStringWriter = new StringWriter();
         try (JsonGenerator gen = jsonFactory.createGenerator(searchParamStringWriter)) {
             gen.writeStartObject();
             gen.writeStringField("jql", jqlQuery);
-            gen.writeNumberField("maxResults", nbEntriesMax);
+            gen.writeNumberField("startAt", startAt);
+            gen.writeNumberField("maxResults", maxResults);
             gen.writeArrayFieldStart("fields");
-            // Retrieve all fields. If that seems slow, we can reconsider.
-            gen.writeString("*all");
+            // Only retrieve what ends up in an Issue, "*all" also ships comments, attachments and custom fields
+            for (String field : fields) {
+                gen.writeString(field);
+            }
             gen.writeEndArray();
             gen.writeEndObject();
         }
@@ -396,18 +830,162 @@ public class RestJiraDownloader {
         httpPost.setHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType());
         httpPost.setEntity(new StringEntity(searchParamStringWriter.toString()));
 
-        try (CloseableHttpResponse response = client.execute(httpPost)) {
+        try (CloseableHttpResponse response = execute(client, httpPost)) {
 
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
                 reportErrors(response);
             }
 
-            JsonNode issueTree = getResponseTree(response);
+            return parseSearchResponse(response, jiraUrl, startAt, targetList);
+        }
+    }
+
+    /**
+     * Streams a search response, building each issue as soon as its object has been read, so that only one issue at a
+     * time is held as a JSON tree.
+     *
+     * @return the total number of issues matching the query, as reported by JIRA
+     */
+    private int parseSearchResponse(HttpResponse response, String jiraUrl, int startAt, List<Issue> targetList)
+            throws IOException {
+        int total = -1;
+        int count = 0;
+        try (InputStream inputStream = response.getEntity().getContent();
+                JsonParser jsonParser = jsonFactory.createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("json response is not an object");
+            }
+            while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.currentName();
+                JsonToken token = jsonParser.nextToken();
+                if ("total".equals(fieldName) && token == JsonToken.VALUE_NUMBER_INT) {
+                    total = jsonParser.getIntValue();
+                } else if ("issues".equals(fieldName)) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new IllegalArgumentException("json field issues is not an array");
+                    }
+                    while ((token = jsonParser.nextToken()) == JsonToken.START_OBJECT) {
+                        JsonNode issueNode = jsonParser.readValueAsTree();
+                        targetList.add(buildIssue(issueNode, jiraUrl));
+                        count++;
+                    }
+                    if (token != JsonToken.END_ARRAY) {
+                        throw new IllegalArgumentException("json issue " + count + " is not an object");
+                    }
+                } else {
+                    jsonParser.skipChildren();
+                }
+            }
+        }
+        return total >= 0 ? total : startAt + count;
+    }
+
+    /**
+     * Sends a request in its own context, which tells the shared client where to count the downloaded bytes. Network
+     * errors and transient error responses are retried with a jittered exponential backoff, or after the delay asked
+     * for by JIRA, as long as the retry budget of the build allows it.
+     *
+     * @return the response, which may still be an error response once the retries are exhausted
+     */
+    private CloseableHttpResponse execute(CloseableHttpClient client, HttpUriRequest request) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            if (!circuit.isClosed()) {
+                throw new IOException("Not sending " + request.getRequestLine() + ": JIRA has failed repeatedly and is "
+                        + "considered unavailable for the rest of the build");
+            }
+
+            HttpClientContext context = HttpClientContext.create();
+            context.setAttribute(DOWNLOAD_STATISTICS, downloadStatistics);
+            CloseableHttpResponse response;
+            try {
+                response = client.execute(request, context);
+            } catch (IOException e) {
+                circuit.recordFailure();
+                if (!canRetry(attempt)) {
+                    throw e;
+                }
+                long delay = getBackoff(attempt);
+                log.warn("Request to JIRA failed (" + e.getMessage() + "), retrying in " + delay + " ms");
+                sleep(delay);
+                continue;
+            }
+
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode >= HttpStatus.SC_INTERNAL_SERVER_ERROR) {
+                circuit.recordFailure();
+            } else if (statusCode != SC_TOO_MANY_REQUESTS) {
+                circuit.recordSuccess();
+            }
+            if (!isTransient(statusCode)) {
+                return response;
+            }
+
+            long delay = getRetryAfter(response);
+            if (delay < 0) {
+                delay = getBackoff(attempt);
+            }
+            if (delay > MAX_RETRY_DELAY || !canRetry(attempt)) {
+                return response;
+            }
+            response.close();
+            log.warn("JIRA answered " + statusCode + " to " + request.getRequestLine() + ", retrying in " + delay
+                    + " ms");
+            sleep(delay);
+        }
+    }
+
+    private boolean canRetry(int attempt) {
+        if (attempt >= maxRetries) {
+            return false;
+        }
+        if (!circuit.takeRetry()) {
+            log.debug("The JIRA retry budget of the build is exhausted");
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isTransient(int statusCode) {
+        return statusCode == SC_TOO_MANY_REQUESTS
+                || statusCode == HttpStatus.SC_BAD_GATEWAY
+                || statusCode == HttpStatus.SC_SERVICE_UNAVAILABLE
+                || statusCode == HttpStatus.SC_GATEWAY_TIMEOUT;
+    }
+
+    /**
+     * Computes the delay before a retry: a random time between half and all of an exponentially growing ceiling, so
+     * that concurrent requests do not all retry at the same time.
+     */
+    private static long getBackoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF, INITIAL_BACKOFF << Math.min(attempt, 16));
+        return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+    }
+
+    /**
+     * Reads the <code>Retry-After</code> header, which is either a number of seconds or an HTTP date.
+     *
+     * @return the delay in milliseconds, or <code>-1</code> if there is no usable header
+     */
+    private static long getRetryAfter(HttpResponse response) {
+        Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+        if (header == null) {
+            return -1;
+        }
+        String value = header.getValue().trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000L);
+        } catch (NumberFormatException e) {
+            Date date = DateUtils.parseDate(value);
+            return date == null ? -1 : Math.max(0, date.getTime() - System.currentTimeMillis());
+        }
+    }
 
-            assertIsObject(issueTree);
-            JsonNode issuesNode = issueTree.get("issues");
-            assertIsArray(issuesNode);
-            buildIssues(issuesNode, jiraUrl);
+    private static void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry a JIRA request");
         }
     }
 
@@ -418,7 +996,7 @@ public class RestJiraDownloader {
         // Note that serverInfo can always be accessed without authentication
 
         HttpGet httpGet = new HttpGet(jiraUrl + "/rest/api/2/serverInfo");
-        try (CloseableHttpResponse response = client.execute(httpGet)) {
+        try (CloseableHttpResponse response = execute(client, httpGet)) {
             if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
                 throw new NoRest("This JIRA server does not support version 2 of the REST API, "
                         + "which maven-changes-plugin requires.");
@@ -456,121 +1034,216 @@ public class RestJiraDownloader {
 
     private void resolveIds(CloseableHttpClient client, String jiraUrl, String jiraProject)
             throws IOException, MojoExecutionException, MojoFailureException {
-        resolveList(
-                resolvedComponentIds,
-                client,
-                "components",
-                component,
-                jiraUrl + "/rest/api/2/project/" + jiraProject + "/components");
-        resolveList(
-                resolvedFixVersionIds,
-                client,
-                "fixVersions",
-                fixVersionIds,
-                jiraUrl + "/rest/api/2/project/" + jiraProject + "/versions");
-        resolveList(resolvedStatusIds, client, "status", statusIds, jiraUrl + "/rest/api/2/status");
-        resolveList(resolvedResolutionIds, client, "resolution", resolutionIds, jiraUrl + "/rest/api/2/resolution");
-        resolveList(resolvedTypeIds, client, "type", typeIds, jiraUrl + "/rest/api/2/issuetype");
-        resolveList(resolvedPriorityIds, client, "priority", priorityIds, jiraUrl + "/rest/api/2/priority");
-    }
-
-    private void resolveList(
-            List<String> targetList, CloseableHttpClient client, String what, String input, String listRestUrlPattern)
-            throws IOException, MojoExecutionException, MojoFailureException {
+        String projectUrl = jiraUrl + "/rest/api/2/project/" + jiraProject;
+        // the lists are independent, so they are all downloaded at once before resolving anything
+        ExecutorService executor = Executors.newFixedThreadPool(METADATA_LISTS);
+        try {
+            Future<JiraMetadataCache.Metadata> components =
+                    fetchMetadata(executor, client, "components", component, projectUrl + "/components");
+            Future<JiraMetadataCache.Metadata> fixVersions =
+                    fetchMetadata(executor, client, "fixVersions", fixVersionIds, projectUrl + "/versions");
+            Future<JiraMetadataCache.Metadata> statuses =
+                    fetchMetadata(executor, client, "status", statusIds, jiraUrl + "/rest/api/2/status");
+            Future<JiraMetadataCache.Metadata> resolutions =
+                    fetchMetadata(executor, client, "resolution", resolutionIds, jiraUrl + "/rest/api/2/resolution");
+            Future<JiraMetadataCache.Metadata> types =
+                    fetchMetadata(executor, client, "type", typeIds, jiraUrl + "/rest/api/2/issuetype");
+            Future<JiraMetadataCache.Metadata> priorities =
+                    fetchMetadata(executor, client, "priority", priorityIds, jiraUrl + "/rest/api/2/priority");
+
+            resolveList(resolvedComponentIds, "components", component, components);
+            resolveList(resolvedFixVersionIds, "fixVersions", fixVersionIds, fixVersions);
+            resolveList(resolvedStatusIds, "status", statusIds, statuses);
+            resolveList(resolvedResolutionIds, "resolution", resolutionIds, resolutions);
+            resolveList(resolvedTypeIds, "type", typeIds, types);
+            resolveList(resolvedPriorityIds, "priority", priorityIds, priorities);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts downloading a metadata list, unless there is nothing to resolve in it.
+     *
+     * @return the pending list, or <code>null</code> if the input is empty
+     */
+    private Future<JiraMetadataCache.Metadata> fetchMetadata(
+            ExecutorService executor, CloseableHttpClient client, String what, String input, String listRestUrl) {
         if (input == null || input.isEmpty()) {
+            return null;
+        }
+        return executor.submit(() -> getMetadata(client, what, listRestUrl));
+    }
+
+    private static void resolveList(
+            List<String> targetList, String what, String input, Future<JiraMetadataCache.Metadata> pendingMetadata)
+            throws IOException, MojoExecutionException, MojoFailureException {
+        if (pendingMetadata == null) {
             return;
         }
 
-        HttpGet httpGet = new HttpGet(listRestUrlPattern);
+        JiraMetadataCache.Metadata metadata = getResult(pendingMetadata);
+        String[] pieces = input.split(",");
+        for (String item : pieces) {
+            String id = metadata.resolve(item.trim());
+            if (id == null) {
+                throw new MojoFailureException(String.format("Could not find %s %s.", what, item.trim()));
+            }
+            targetList.add(id);
+        }
+    }
 
-        try (CloseableHttpResponse response = client.execute(httpGet)) {
-            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
-                getLog().error(String.format("Could not get %s list from %s", what, listRestUrlPattern));
-                reportErrors(response);
+    private JiraMetadataCache.Metadata getMetadata(CloseableHttpClient client, String what, String listRestUrl)
+            throws IOException, MojoExecutionException {
+        // what a user can see depends on its permissions
+        String cacheKey = listRestUrl + '\n' + jiraUser;
+        if (metadataCache != null) {
+            JiraMetadataCache.Metadata metadata = metadataCache.get(cacheKey, metadataCacheTtl, cacheDirectory);
+            if (metadata != null) {
+                log.debug("Using cached " + what + " list of " + listRestUrl);
+                return metadata;
             }
+        }
 
-            JsonNode items = getResponseTree(response);
-            String[] pieces = input.split(",");
-            for (String item : pieces) {
-                targetList.add(resolveOneItem(items, what, item.trim()));
+        JiraMetadataCache.Metadata metadata =
+                new JiraMetadataCache.Metadata(System.currentTimeMillis(), getConditionally(client, what, listRestUrl));
+
+        if (metadataCache != null && metadataCacheTtl > 0) {
+            try {
+                metadataCache.put(cacheKey, metadata, cacheDirectory);
+            } catch (IOException e) {
+                log.warn("Could not write the JIRA metadata cache in " + cacheDirectory + ": " + e.getMessage());
             }
         }
+        return metadata;
     }
 
-    private String resolveOneItem(JsonNode items, String what, String nameOrId) throws MojoFailureException {
-        for (int cx = 0; cx < items.size(); cx++) {
-            JsonNode item = items.get(cx);
-            if (nameOrId.equals(item.get("id").asText())) {
-                return nameOrId;
-            } else if (nameOrId.equals(item.get("name").asText())) {
-                return item.get("id").asText();
+    /**
+     * Downloads a list, replaying the validators of the copy kept in the cache directory, if any, so that JIRA can
+     * answer that the list has not been modified instead of sending it again.
+     */
+    private JsonNode getConditionally(CloseableHttpClient client, String what, String listRestUrl)
+            throws IOException, MojoExecutionException {
+        ConditionalRequestCache responseCache =
+                cacheDirectory == null ? null : new ConditionalRequestCache(cacheDirectory);
+        String cacheKey = ConditionalRequestCache.getKey(listRestUrl, jiraUser);
+        ConditionalRequestCache.Entry cached = null;
+        if (responseCache != null) {
+            try {
+                cached = responseCache.read(cacheKey);
+            } catch (IOException e) {
+                log.warn("Ignoring unreadable JIRA response cache in " + cacheDirectory + ": " + e.getMessage());
             }
         }
-        throw new MojoFailureException(String.format("Could not find %s %s.", what, nameOrId));
-    }
 
-    private void buildIssues(JsonNode issuesNode, String jiraUrl) {
-        issueList = new ArrayList<>();
-        for (int ix = 0; ix < issuesNode.size(); ix++) {
-            JsonNode issueNode = issuesNode.get(ix);
-            assertIsObject(issueNode);
-            Issue issue = new Issue();
-            JsonNode val;
+        HttpGet httpGet = new HttpGet(listRestUrl);
+        if (cached != null) {
+            if (cached.getETag() != null) {
+                httpGet.setHeader(HttpHeaders.IF_NONE_MATCH, cached.getETag());
+            }
+            if (cached.getLastModified() != null) {
+                httpGet.setHeader(HttpHeaders.IF_MODIFIED_SINCE, cached.getLastModified());
+            }
+        }
 
-            val = issueNode.get("id");
-            if (isNotNullNode(val)) {
-                issue.setId(val.asText());
+        byte[] body;
+        Header etag;
+        Header lastModified;
+        try (CloseableHttpResponse response = execute(client, httpGet)) {
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode == HttpStatus.SC_NOT_MODIFIED && cached != null) {
+                log.debug("The " + what + " list of " + listRestUrl + " has not been modified");
+                return parseTree(cached.getBody());
+            }
+            if (statusCode != HttpStatus.SC_OK) {
+                getLog().error(String.format("Could not get %s list from %s", what, listRestUrl));
+                reportErrors(response);
             }
 
-            val = issueNode.get("key");
-            if (isNotNullNode(val)) {
-                issue.setKey(val.asText());
-                issue.setLink(String.format("%s/browse/%s", jiraUrl, val.asText()));
+            body = EntityUtils.toByteArray(response.getEntity());
+            etag = response.getFirstHeader(HttpHeaders.ETAG);
+            lastModified = response.getFirstHeader(HttpHeaders.LAST_MODIFIED);
+        }
+
+        if (responseCache != null && (etag != null || lastModified != null)) {
+            try {
+                responseCache.write(
+                        cacheKey,
+                        new ConditionalRequestCache.Entry(
+                                etag == null ? null : etag.getValue(),
+                                lastModified == null ? null : lastModified.getValue(),
+                                null,
+                                body));
+            } catch (IOException e) {
+                log.warn("Could not write the JIRA response cache in " + cacheDirectory + ": " + e.getMessage());
             }
+        }
+        return parseTree(body);
+    }
 
-            // much of what we want is in here.
-            JsonNode fieldsNode = issueNode.get("fields");
+    private JsonNode parseTree(byte[] body) throws IOException {
+        try (JsonParser jsonParser = jsonFactory.createParser(body)) {
+            return jsonParser.readValueAsTree();
+        }
+    }
+
+    private Issue buildIssue(JsonNode issueNode, String jiraUrl) {
+        Issue issue = new Issue();
+        JsonNode val;
 
-            val = fieldsNode.get("assignee");
-            processAssignee(issue, val);
+        val = issueNode.get("id");
+        if (isNotNullNode(val)) {
+            issue.setId(val.asText());
+        }
 
-            val = fieldsNode.get("created");
-            processCreated(issue, val);
+        val = issueNode.get("key");
+        if (isNotNullNode(val)) {
+            issue.setKey(val.asText());
+            issue.setLink(String.format("%s/browse/%s", jiraUrl, val.asText()));
+        }
 
-            val = fieldsNode.get("components");
-            processComponents(issue, val);
+        // much of what we want is in here.
+        JsonNode fieldsNode = issueNode.path("fields");
 
-            val = fieldsNode.get("fixVersions");
-            processFixVersions(issue, val);
+        val = fieldsNode.get("assignee");
+        processAssignee(issue, val);
 
-            val = fieldsNode.get("issuetype");
-            processIssueType(issue, val);
+        val = fieldsNode.get("created");
+        processCreated(issue, val);
 
-            val = fieldsNode.get("priority");
-            processPriority(issue, val);
+        val = fieldsNode.get("components");
+        processComponents(issue, val);
 
-            val = fieldsNode.get("reporter");
-            processReporter(issue, val);
+        val = fieldsNode.get("fixVersions");
+        processFixVersions(issue, val);
 
-            val = fieldsNode.get("resolution");
-            processResolution(issue, val);
+        val = fieldsNode.get("issuetype");
+        processIssueType(issue, val);
 
-            val = fieldsNode.get("status");
-            processStatus(issue, val);
+        val = fieldsNode.get("priority");
+        processPriority(issue, val);
 
-            val = fieldsNode.get("summary");
-            if (isNotNullNode(val)) {
-                issue.setSummary(val.asText());
-            }
+        val = fieldsNode.get("reporter");
+        processReporter(issue, val);
 
-            val = fieldsNode.get("updated");
-            processUpdated(issue, val);
+        val = fieldsNode.get("resolution");
+        processResolution(issue, val);
 
-            val = fieldsNode.get("versions");
-            processVersions(issue, val);
+        val = fieldsNode.get("status");
+        processStatus(issue, val);
 
-            issueList.add(issue);
+        val = fieldsNode.get("summary");
+        if (isNotNullNode(val)) {
+            issue.setSummary(val.asText());
         }
+
+        val = fieldsNode.get("updated");
+        processUpdated(issue, val);
+
+        val = fieldsNode.get("versions");
+        processVersions(issue, val);
+
+        return issue;
     }
 
     private void processVersions(Issue issue, JsonNode val) {
@@ -641,7 +1314,7 @@ public class RestJiraDownloader {
         if (isNotNullNode(val)) {
             try {
                 issue.setCreated(parseDate(val));
-            } catch (ParseException e) {
+            } catch (DateTimeParseException e) {
                 getLog().warn("Invalid created date " + val.asText());
             }
         }
@@ -651,14 +1324,14 @@ public class RestJiraDownloader {
         if (isNotNullNode(val)) {
             try {
                 issue.setUpdated(parseDate(val));
-            } catch (ParseException e) {
+            } catch (DateTimeParseException e) {
                 getLog().warn("Invalid updated date " + val.asText());
             }
         }
     }
 
-    private Date parseDate(JsonNode val) throws ParseException {
-        return dateFormat.parse(val.asText());
+    private Date parseDate(JsonNode val) {
+        return Date.from(OffsetDateTime.parse(val.asText(), dateFormat).toInstant());
     }
 
     private void processFixVersions(Issue issue, JsonNode val) {
@@ -707,9 +1380,7 @@ public class RestJiraDownloader {
         return node != null && !node.isNull();
     }
 
-    private void doSessionAuth(CloseableHttpClient client, String jiraUrl)
-            throws IOException, MojoExecutionException, NoRest {
-
+    private void configureCredentials() {
         Server server = settings.getServer(jiraServerId);
         if (server != null) {
             SettingsDecryptionResult result = settingsDecrypter.decrypt(new DefaultSettingsDecryptionRequest(server));
@@ -722,8 +1393,21 @@ public class RestJiraDownloader {
                 jiraPassword = result.getServer().getPassword();
             }
         }
+    }
+
+    private void doSessionAuth(JiraHttpClientPool.Connection connection, String jiraUrl)
+            throws IOException, MojoExecutionException, NoRest {
+
+        if (jiraUser == null) {
+            return;
+        }
+
+        synchronized (connection) {
+            if (connection.isAuthenticated(jiraUser)) {
+                log.debug("Reusing the JIRA session of " + jiraUser);
+                return;
+            }
 
-        if (jiraUser != null) {
             StringWriter jsWriter = new StringWriter();
             try (JsonGenerator gen = jsonFactory.createGenerator(jsWriter)) {
                 gen.writeStartObject();
@@ -736,7 +1420,7 @@ public class RestJiraDownloader {
             post.addHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.getMimeType());
             post.setEntity(new StringEntity(jsWriter.toString()));
 
-            try (CloseableHttpResponse response = client.execute(post)) {
+            try (CloseableHttpResponse response = execute(connection.getClient(), post)) {
                 int statusCode = response.getStatusLine().getStatusCode();
                 if (statusCode != HttpStatus.SC_OK) {
                     if (statusCode != HttpStatus.SC_UNAUTHORIZED && statusCode != HttpStatus.SC_FORBIDDEN) {
@@ -747,10 +1431,16 @@ public class RestJiraDownloader {
                     throw new MojoExecutionException(String.format("Authentication failure status %d.", statusCode));
                 }
             }
+            connection.setAuthenticated(jiraUser);
         }
     }
 
-    private CloseableHttpClient setupHttpClient(String jiraUrl) {
+    private int getMaxConnections() {
+        // the default pool only allows two connections per route
+        return Math.max(concurrency, METADATA_LISTS);
+    }
+
+    private CloseableHttpClient setupHttpClient(String jiraUrl, Proxy proxy) {
 
         HttpClientBuilder httpClientBuilder = HttpClients.custom()
                 .setDefaultCookieStore(new BasicCookieStore())
@@ -760,7 +1450,22 @@ public class RestJiraDownloader {
                         .build())
                 .setDefaultHeaders(Collections.singletonList(new BasicHeader("Accept", "application/json")));
 
-        Proxy proxy = getProxy(jiraUrl);
+        // failed requests are retried by execute(), with a backoff and within the retry budget
+        httpClientBuilder.disableAutomaticRetries();
+
+        // HttpClient advertises gzip and deflate and decodes the responses between these two interceptors
+        httpClientBuilder
+                .addInterceptorFirst(RestJiraDownloader::countTransferredBytes)
+                .addInterceptorLast(RestJiraDownloader::countDecodedBytes);
+
+        int maxConnections = getMaxConnections();
+        httpClientBuilder.setMaxConnPerRoute(maxConnections).setMaxConnTotal(maxConnections);
+
+        if (clientPool != null) {
+            // the connections are kept between executions: close those that the server may have dropped meanwhile
+            httpClientBuilder.evictIdleConnections(IDLE_CONNECTION_TIMEOUT, TimeUnit.SECONDS);
+        }
+
         if (proxy != null) {
             if (proxy.getUsername() != null && proxy.getPassword() != null) {
                 CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
@@ -774,6 +1479,30 @@ public class RestJiraDownloader {
         return httpClientBuilder.build();
     }
 
+    private static void countTransferredBytes(HttpResponse response, HttpContext context) {
+        DownloadStatistics statistics = (DownloadStatistics) context.getAttribute(DOWNLOAD_STATISTICS);
+        if (statistics != null && response.getEntity() != null) {
+            response.setEntity(new HttpEntityWrapper(response.getEntity()) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return statistics.countTransferred(super.getContent());
+                }
+            });
+        }
+    }
+
+    private static void countDecodedBytes(HttpResponse response, HttpContext context) {
+        DownloadStatistics statistics = (DownloadStatistics) context.getAttribute(DOWNLOAD_STATISTICS);
+        if (statistics != null && response.getEntity() != null) {
+            response.setEntity(new HttpEntityWrapper(response.getEntity()) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return statistics.countDecoded(super.getContent());
+                }
+            });
+        }
+    }
+
     private Proxy getProxy(String jiraUrl) {
         Proxy proxy = settings.getActiveProxy();
         if (proxy != null) {
@@ -799,6 +1528,15 @@ public class RestJiraDownloader {
         return proxy;
     }
 
+    /**
+     * Gets the number of bytes downloaded by the last execution, as transferred and once decompressed.
+     *
+     * @return the download statistics
+     */
+    public DownloadStatistics getDownloadStatistics() {
+        return downloadStatistics;
+    }
+
     public List<Issue> getIssueList() {
         return issueList;
     }
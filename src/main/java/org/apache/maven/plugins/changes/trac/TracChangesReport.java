@@ -99,6 +99,49 @@ public class TracChangesReport extends AbstractChangesReport {
     @Parameter
     private String tracUser;
 
+    /**
+     * The number of tickets fetched from Trac with one <code>system.multicall</code> request. Set to <code>1</code>
+     * to fetch the tickets one by one, which is also done automatically for servers that do not support multicalls.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracBatchSize", defaultValue = "100")
+    private int tracBatchSize;
+
+    /**
+     * The number of concurrent requests fetching the tickets, or their batches, from Trac. Set to <code>1</code> to
+     * fetch them sequentially.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracConcurrency", defaultValue = "1")
+    private int tracConcurrency;
+
+    /**
+     * Defines the connection timeout in milliseconds when accessing Trac's XML-RPC API.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracConnectionTimeout", defaultValue = "36000")
+    private int tracConnectionTimeout;
+
+    /**
+     * Defines the receive timeout in milliseconds when accessing Trac's XML-RPC API.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracReceiveTimeout", defaultValue = "32000")
+    private int tracReceiveTimeout;
+
+    /**
+     * Whether to ask Trac for gzip compressed responses. Turn it off if compressing the responses takes Trac longer
+     * than transferring them.
+     *
+     * @since 3.0.0
+     */
+    @Parameter(property = "changes.tracCompression", defaultValue = "true")
+    private boolean tracCompression;
+
     /* --------------------------------------------------------------------- */
     /* Public methods */
     /* --------------------------------------------------------------------- */
@@ -136,6 +179,7 @@ public class TracChangesReport extends AbstractChangesReport {
             configureIssueDownloader(issueDownloader);
 
             List<Issue> issueList = issueDownloader.getIssueList();
+            getLog().debug("Downloaded from Trac: " + issueDownloader.getDownloadStatistics());
 
             // Generate the report
             IssuesReportRenderer report = new IssuesReportRenderer(getSink(), getBundle(locale), columnIds, issueList);
@@ -177,9 +221,15 @@ public class TracChangesReport extends AbstractChangesReport {
     }
 
     private void configureIssueDownloader(TracDownloader issueDownloader) {
+        issueDownloader.setLog(getLog());
         issueDownloader.setProject(project);
         issueDownloader.setQuery(query);
         issueDownloader.setTracPassword(tracPassword);
         issueDownloader.setTracUser(tracUser);
+        issueDownloader.setBatchSize(tracBatchSize);
+        issueDownloader.setConcurrency(tracConcurrency);
+        issueDownloader.setConnectionTimeout(tracConnectionTimeout);
+        issueDownloader.setReceiveTimeout(tracReceiveTimeout);
+        issueDownloader.setCompression(tracCompression);
     }
 }
@@ -18,23 +18,33 @@
  */
 package org.apache.maven.plugins.changes.trac;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.changes.issues.DownloadStatistics;
 import org.apache.maven.plugins.changes.issues.Issue;
 import org.apache.maven.project.MavenProject;
 import org.apache.xmlrpc.XmlRpcException;
 import org.apache.xmlrpc.client.XmlRpcClient;
 import org.apache.xmlrpc.client.XmlRpcClientConfigImpl;
-import org.apache.xmlrpc.client.XmlRpcCommonsTransportFactory;
 
 /**
  * Get issues from a Trac installation.
@@ -44,6 +54,24 @@ import org.apache.xmlrpc.client.XmlRpcCommonsTransportFactory;
  * @since 2.4
  */
 public class TracDownloader {
+    /** The default number of tickets fetched with one <code>system.multicall</code>. */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /** The format of {@link Date#toString()}, which the tickets of some Trac versions use for their dates. */
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.ENGLISH);
+
+    /** The XML-RPC fault code of a call to an unknown method. */
+    private static final int METHOD_NOT_FOUND = -32601;
+
+    /** The default connection timeout in milliseconds. */
+    public static final int DEFAULT_CONNECTION_TIMEOUT = 36000;
+
+    /** The default timeout in milliseconds for receiving the response of a call. */
+    public static final int DEFAULT_RECEIVE_TIMEOUT = 32000;
+
+    private Log log;
+
     /** The Maven project. */
     private MavenProject project;
 
@@ -56,6 +84,24 @@ public class TracDownloader {
     /** The username for authentication into a private Trac installation. */
     private String tracUser;
 
+    /** The number of tickets fetched with one <code>system.multicall</code>, <code>1</code> to fetch them one by one. */
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    /** The number of concurrent calls, <code>1</code> to fetch the tickets sequentially. */
+    private int concurrency = 1;
+
+    /** The connection timeout in milliseconds. */
+    private int connectionTimeout = DEFAULT_CONNECTION_TIMEOUT;
+
+    /** The timeout in milliseconds for receiving the response of a call. */
+    private int receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
+
+    /** Whether to ask for gzip compressed responses. */
+    private boolean compression = true;
+
+    /** The bytes downloaded by the last call to {@link #getIssueList()}. */
+    private DownloadStatistics downloadStatistics = new DownloadStatistics();
+
     private Issue createIssue(Object[] ticketObj) {
         Issue issue = new Issue();
 
@@ -65,9 +111,9 @@ public class TracDownloader {
 
         issue.setLink(getUrl() + "/ticket/" + ticketObj[0]);
 
-        issue.setCreated(parseDate(String.valueOf(ticketObj[1])));
+        issue.setCreated(toDate(ticketObj[1]));
 
-        issue.setUpdated(parseDate(String.valueOf(ticketObj[2])));
+        issue.setUpdated(toDate(ticketObj[2]));
 
         @SuppressWarnings("unchecked")
         Map<String, String> attributes = (Map<String, String>) ticketObj[3];
@@ -93,7 +139,7 @@ public class TracDownloader {
         return issue;
     }
 
-    public List<Issue> getIssueList() throws MalformedURLException, XmlRpcException {
+    public List<Issue> getIssueList() throws IOException, XmlRpcException {
         // Create and configure an XML-RPC client
         XmlRpcClientConfigImpl config = new XmlRpcClientConfigImpl();
 
@@ -104,12 +150,21 @@ public class TracDownloader {
         }
         config.setBasicUserName(tracUser);
         config.setBasicPassword(tracPassword);
+        // Ask for gzip compressed responses, the transport decodes them transparently
+        config.setGzipRequesting(compression);
 
         XmlRpcClient client = new XmlRpcClient();
 
         client.setConfig(config);
 
-        client.setTransportFactory(new XmlRpcCommonsTransportFactory(client));
+        downloadStatistics = new DownloadStatistics();
+        try (CloseableHttpClient httpClient = setupHttpClient()) {
+            client.setTransportFactory(new TracTransportFactory(client, httpClient, downloadStatistics));
+            return getIssueList(client);
+        }
+    }
+
+    private List<Issue> getIssueList(XmlRpcClient client) throws XmlRpcException {
 
         // Fetch issues
         String qstr = "";
@@ -124,11 +179,34 @@ public class TracDownloader {
         try {
             queryResult = (Object[]) client.execute("ticket.query", params);
 
-            for (Object aQueryResult : queryResult) {
-                params = new Object[] {aQueryResult};
-                Object[] ticketGetResult;
-                ticketGetResult = (Object[]) client.execute("ticket.get", params);
-                issueList.add(createIssue(ticketGetResult));
+            int fetched = 0;
+            int step = 1;
+            if (batchSize > 1 && queryResult.length > 0) {
+                // the first batch tells whether the server supports system.multicall
+                int end = Math.min(queryResult.length, batchSize);
+                Object[] results = null;
+                try {
+                    results = multicall(client, queryResult, 0, end);
+                } catch (XmlRpcException e) {
+                    if (!isMethodNotFound(e)) {
+                        throw e;
+                    }
+                    log.info("Trac does not support system.multicall, fetching the tickets one by one.");
+                }
+                if (results != null) {
+                    addTickets(results, issueList);
+                    fetched = end;
+                    step = batchSize;
+                }
+            }
+
+            if (concurrency > 1 && queryResult.length - fetched > step) {
+                getTicketsConcurrently(client, queryResult, fetched, step, issueList);
+            } else {
+                for (int i = fetched; i < queryResult.length; i += step) {
+                    issueList.addAll(
+                            getTickets(client, queryResult, i, Math.min(queryResult.length, i + step), step > 1));
+                }
             }
         } catch (XmlRpcException e) {
             throw new XmlRpcException("XmlRpc Error.", e);
@@ -136,6 +214,120 @@ public class TracDownloader {
         return issueList;
     }
 
+    /**
+     * Fetches the tickets following the already fetched ones concurrently, then appends them to the issue list in
+     * <code>ticket.query</code> order.
+     */
+    private void getTicketsConcurrently(XmlRpcClient client, Object[] ids, int fetched, int step, List<Issue> issueList)
+            throws XmlRpcException {
+        int chunks = (ids.length - fetched + step - 1) / step;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, chunks));
+        try {
+            List<Future<List<Issue>>> futures = new ArrayList<>(chunks);
+            for (int i = fetched; i < ids.length; i += step) {
+                final int from = i;
+                final int to = Math.min(ids.length, i + step);
+                futures.add(executor.submit(() -> getTickets(client, ids, from, to, step > 1)));
+            }
+            for (Future<List<Issue>> future : futures) {
+                issueList.addAll(getResult(future));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T getResult(Future<T> future) throws XmlRpcException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new XmlRpcException("Interrupted while fetching Trac tickets", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof XmlRpcException) {
+                throw (XmlRpcException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new XmlRpcException(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Fetches the tickets with the given ids, with one <code>system.multicall</code> or one <code>ticket.get</code>
+     * call for each ticket.
+     */
+    private List<Issue> getTickets(XmlRpcClient client, Object[] ids, int from, int to, boolean batched)
+            throws XmlRpcException {
+        List<Issue> issues = new ArrayList<>(to - from);
+        if (batched) {
+            addTickets(multicall(client, ids, from, to), issues);
+        } else {
+            for (int i = from; i < to; i++) {
+                issues.add(createIssue((Object[]) client.execute("ticket.get", new Object[] {ids[i]})));
+            }
+        }
+        return issues;
+    }
+
+    /**
+     * Fetches the tickets with one <code>system.multicall</code>, instead of one call for each ticket.
+     *
+     * @return the results of the <code>ticket.get</code> calls
+     */
+    private static Object[] multicall(XmlRpcClient client, Object[] ids, int from, int to) throws XmlRpcException {
+        Object[] calls = new Object[to - from];
+        for (int i = from; i < to; i++) {
+            Map<String, Object> call = new HashMap<>();
+            call.put("methodName", "ticket.get");
+            call.put("params", new Object[] {ids[i]});
+            calls[i - from] = call;
+        }
+
+        return (Object[]) client.execute("system.multicall", new Object[] {calls});
+    }
+
+    /**
+     * Tells whether a call failed because Trac does not know its method. Any other failure, like a denied
+     * authentication or an unavailable server, must not be taken for a missing <code>system.multicall</code>.
+     */
+    private static boolean isMethodNotFound(XmlRpcException e) {
+        if (e.code == METHOD_NOT_FOUND) {
+            return true;
+        }
+        // old versions of the Trac XML-RPC plugin answer with a generic fault code
+        String message = e.getMessage();
+        return e.code > 0 && message != null && message.contains("\"system.multicall\" not found");
+    }
+
+    private void addTickets(Object[] results, List<Issue> issueList) throws XmlRpcException {
+        for (Object result : results) {
+            if (result instanceof Map) {
+                Map<?, ?> fault = (Map<?, ?>) result;
+                throw new XmlRpcException(
+                        ((Number) fault.get("faultCode")).intValue(), String.valueOf(fault.get("faultString")));
+            }
+            // a successful call returns its value wrapped in an array
+            issueList.add(createIssue((Object[]) ((Object[]) result)[0]));
+        }
+    }
+
+    private CloseableHttpClient setupHttpClient() {
+        return HttpClients.custom()
+                .useSystemProperties()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectionTimeout)
+                        .setSocketTimeout(receiveTimeout)
+                        .build())
+                // the transport asks for gzip and decodes the responses itself, once it has counted their bytes
+                .disableContentCompression()
+                // the concurrent calls share a pool of keep-alive connections
+                .setMaxConnPerRoute(concurrency)
+                .setMaxConnTotal(concurrency)
+                .build();
+    }
+
     private String getUrl() {
 
         String url = project.getIssueManagement().getUrl();
@@ -147,6 +339,20 @@ public class TracDownloader {
         return url;
     }
 
+    /**
+     * Gets the number of bytes downloaded by the last call to {@link #getIssueList()}, as transferred and once
+     * decompressed.
+     *
+     * @return the download statistics
+     */
+    public DownloadStatistics getDownloadStatistics() {
+        return downloadStatistics;
+    }
+
+    public void setLog(Log log) {
+        this.log = log;
+    }
+
     public void setProject(MavenProject project) {
         this.project = project;
     }
@@ -163,19 +369,79 @@ public class TracDownloader {
         this.tracUser = tracUser;
     }
 
-    private Date parseDate(String timeCreated) throws RuntimeException {
+    /**
+     * Sets the number of tickets fetched with one <code>system.multicall</code>.
+     *
+     * @param batchSize the number of tickets, <code>1</code> to fetch them one by one
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the number of concurrent calls fetching the tickets, or their batches.
+     *
+     * @param concurrency the number of concurrent calls, <code>1</code> to fetch the tickets sequentially
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public void setConnectionTimeout(int connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public void setReceiveTimeout(int receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+
+    /**
+     * Sets whether to ask Trac for gzip compressed responses, which are smaller but take time to compress.
+     *
+     * @param compression <code>true</code> to ask for compressed responses
+     */
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Converts a date of a ticket. Trac sends XML-RPC date-times, or Unix timestamps in seconds on old versions.
+     */
+    private static Date toDate(Object value) {
+        if (value instanceof Date) {
+            return (Date) value;
+        } else if (value instanceof Number) {
+            return new Date(((Number) value).longValue() * 1000L);
+        }
+        return parseDate(String.valueOf(value));
+    }
+
+    /**
+     * Parses a date as a Unix timestamp in seconds, or in the format of {@link Date#toString()}.
+     */
+    static Date parseDate(String value) {
+        if (isTimestamp(value)) {
+            return new Date(Long.parseLong(value) * 1000L);
+        }
         try {
-            long millis = Long.parseLong(timeCreated);
-            Calendar cld = Calendar.getInstance();
-            cld.setTimeInMillis(millis * 1000L);
-            return cld.getTime();
-        } catch (NumberFormatException e) {
-            SimpleDateFormat format = new SimpleDateFormat("EEE MMM dd HH:mm:ss z yyyy", Locale.ENGLISH);
-            try {
-                return format.parse(timeCreated);
-            } catch (ParseException e1) {
-                throw new RuntimeException("Failed to parse date '" + timeCreated + "' as a date.", e1);
+            return Date.from(ZonedDateTime.parse(value, DATE_FORMAT).toInstant());
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Failed to parse date '" + value + "' as a date.", e);
+        }
+    }
+
+    private static boolean isTimestamp(String value) {
+        // a sign is accepted, like Long.parseLong does, for the dates before 1970
+        int start = !value.isEmpty() && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        // longer ones would overflow once converted to milliseconds
+        if (value.length() == start || value.length() - start > 15) {
+            return false;
+        }
+        for (int i = start; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
             }
         }
+        return true;
     }
 }
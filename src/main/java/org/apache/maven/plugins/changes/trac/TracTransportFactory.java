@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.trac;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
+import org.apache.maven.plugins.changes.issues.DownloadStatistics;
+import org.apache.xmlrpc.XmlRpcException;
+import org.apache.xmlrpc.XmlRpcRequest;
+import org.apache.xmlrpc.client.XmlRpcClient;
+import org.apache.xmlrpc.client.XmlRpcClientException;
+import org.apache.xmlrpc.client.XmlRpcHttpClientConfig;
+import org.apache.xmlrpc.client.XmlRpcHttpTransport;
+import org.apache.xmlrpc.client.XmlRpcHttpTransportException;
+import org.apache.xmlrpc.client.XmlRpcTransport;
+import org.apache.xmlrpc.client.XmlRpcTransportFactoryImpl;
+import org.apache.xmlrpc.common.XmlRpcStreamRequestConfig;
+import org.apache.xmlrpc.util.HttpUtil;
+import org.xml.sax.SAXException;
+
+/**
+ * Creates XML-RPC transports that send their calls with an Apache HttpClient, so that they share its pool of
+ * keep-alive connections instead of connecting again for each call. The transports count the bytes of the responses
+ * before and after their gzip decoding.
+ *
+ * @since 3.0.0
+ */
+class TracTransportFactory extends XmlRpcTransportFactoryImpl {
+    private static final String USER_AGENT = XmlRpcHttpTransport.USER_AGENT + " (Apache HttpClient Transport)";
+
+    private final CloseableHttpClient httpClient;
+
+    private final DownloadStatistics statistics;
+
+    /**
+     * @param client the XML-RPC client
+     * @param httpClient the HTTP client, which must not decode the responses itself
+     * @param statistics the download statistics to update
+     */
+    TracTransportFactory(XmlRpcClient client, CloseableHttpClient httpClient, DownloadStatistics statistics) {
+        super(client);
+        this.httpClient = httpClient;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public XmlRpcTransport getTransport() {
+        return new Transport(getClient());
+    }
+
+    /**
+     * Sends one call, the XML-RPC client gets a new transport for each of them.
+     */
+    private class Transport extends XmlRpcHttpTransport {
+        private HttpPost post;
+
+        private CloseableHttpResponse response;
+
+        Transport(XmlRpcClient client) {
+            super(client, USER_AGENT);
+        }
+
+        @Override
+        public Object sendRequest(XmlRpcRequest request) throws XmlRpcException {
+            XmlRpcHttpClientConfig config = (XmlRpcHttpClientConfig) request.getConfig();
+            try {
+                post = new HttpPost(config.getServerURL().toURI());
+            } catch (URISyntaxException e) {
+                throw new XmlRpcClientException("Invalid Trac URL " + config.getServerURL(), e);
+            }
+            return super.sendRequest(request);
+        }
+
+        @Override
+        protected void setRequestHeader(String header, String value) {
+            post.setHeader(header, value);
+        }
+
+        @Override
+        protected void setContentLength(int length) {
+            // the entity of the request sets it
+        }
+
+        @Override
+        protected void writeRequest(ReqWriter writer) throws XmlRpcException, IOException, SAXException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writer.write(out);
+            post.setEntity(new ByteArrayEntity(out.toByteArray()));
+
+            response = httpClient.execute(post);
+            int statusCode = response.getStatusLine().getStatusCode();
+            if (statusCode < 200 || statusCode > 299) {
+                throw new XmlRpcHttpTransportException(
+                        statusCode, response.getStatusLine().getReasonPhrase());
+            }
+        }
+
+        @Override
+        protected InputStream getInputStream() throws XmlRpcException {
+            try {
+                return statistics.countTransferred(response.getEntity().getContent());
+            } catch (IOException e) {
+                throw new XmlRpcClientException("Failed to read the response of Trac: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        protected boolean isResponseGzipCompressed(XmlRpcStreamRequestConfig config) {
+            Header encoding = response.getFirstHeader(HttpHeaders.CONTENT_ENCODING);
+            return encoding != null && HttpUtil.isUsingGzipEncoding(encoding.getValue());
+        }
+
+        @Override
+        protected Object readResponse(XmlRpcStreamRequestConfig config, InputStream in) throws XmlRpcException {
+            return super.readResponse(config, statistics.countDecoded(in));
+        }
+
+        @Override
+        protected void close() throws XmlRpcClientException {
+            if (response == null) {
+                return;
+            }
+            try {
+                // read what is left of the response, so that its connection goes back to the pool
+                EntityUtils.consume(response.getEntity());
+                response.close();
+            } catch (IOException e) {
+                throw new XmlRpcClientException("Failed to close the connection to Trac: " + e.getMessage(), e);
+            }
+        }
+    }
+}
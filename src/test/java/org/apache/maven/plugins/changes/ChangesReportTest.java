@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.apache.maven.api.plugin.testing.InjectMojo;
+import org.apache.maven.api.plugin.testing.MojoParameter;
+import org.apache.maven.api.plugin.testing.MojoTest;
+import org.apache.maven.plugin.testing.SilentLog;
+import org.apache.maven.plugins.changes.model.Action;
+import org.apache.maven.plugins.changes.model.Component;
+import org.apache.maven.plugins.changes.model.Release;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the aggregation of the changes.xml files of child modules by {@link ChangesReport}.
+ */
+@MojoTest
+public class ChangesReportTest {
+
+    private static final String CHANGES_PATH = "/src/changes/changes.xml";
+
+    private static final int MODULES = 8;
+
+    @TempDir
+    private File tempDir;
+
+    @InjectMojo(goal = "changes", pom = "src/test/unit/plugin-config.xml")
+    @MojoParameter(name = "aggregatedConcurrency", value = "4")
+    @Test
+    public void testConcurrentAggregationKeepsModuleOrder(ChangesReport mojo) throws Exception {
+        List<MavenProject> childProjects = new ArrayList<>();
+        for (int i = 0; i < MODULES; i++) {
+            // the third module has no changes.xml file
+            childProjects.add(newModule(i, i == 2 ? null : changes(i)));
+        }
+        File parentChanges = writeChanges(new File(tempDir, "parent"), changes(-1));
+
+        List<Release> releases = mojo.mergeChildReleases(
+                new ChangesXML(parentChanges, new SilentLog()).getReleaseList(),
+                childProjects,
+                CHANGES_PATH,
+                new Properties());
+
+        // the releases merged one module after the other
+        List<Release> expected = new ChangesXML(parentChanges, new SilentLog()).getReleaseList();
+        for (MavenProject childProject : childProjects) {
+            File changesFile = new File(childProject.getBasedir(), CHANGES_PATH);
+            if (changesFile.exists()) {
+                expected = ReleaseUtils.mergeReleases(
+                        expected,
+                        childProject.getName(),
+                        new ChangesXML(changesFile, new SilentLog()).getReleaseList());
+            }
+        }
+        assertEquals(describe(expected), describe(releases));
+
+        List<Component> components = releases.get(0).getComponents();
+        assertEquals(MODULES - 1, components.size());
+        assertEquals("module-0", components.get(0).getName());
+        assertEquals("module-1", components.get(1).getName());
+        assertEquals("module-3", components.get(2).getName());
+        assertEquals("module-7", components.get(6).getName());
+        assertEquals("Change 7", components.get(6).getActions().get(0).getAction());
+    }
+
+    @InjectMojo(goal = "changes", pom = "src/test/unit/plugin-config.xml")
+    @MojoParameter(name = "aggregatedConcurrency", value = "4")
+    @Test
+    public void testFailingModuleFailsTheAggregation(ChangesReport mojo) throws Exception {
+        List<MavenProject> childProjects = new ArrayList<>();
+        for (int i = 0; i < MODULES; i++) {
+            childProjects.add(newModule(i, i == 5 ? "<document><body><release version=\"1.0\">" : changes(i)));
+        }
+
+        assertThrows(
+                ChangesXMLRuntimeException.class,
+                () -> mojo.mergeChildReleases(new ArrayList<>(), childProjects, CHANGES_PATH, new Properties()));
+    }
+
+    private MavenProject newModule(int index, String changes) throws Exception {
+        File basedir = new File(tempDir, "module-" + index);
+        basedir.mkdirs();
+        if (changes != null) {
+            writeChanges(basedir, changes);
+        }
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.example");
+        project.setArtifactId("module-" + index);
+        project.setName("module-" + index);
+        project.setFile(new File(basedir, "pom.xml"));
+        return project;
+    }
+
+    private static File writeChanges(File basedir, String changes) throws Exception {
+        File changesFile = new File(basedir, CHANGES_PATH);
+        changesFile.getParentFile().mkdirs();
+        Files.write(changesFile.toPath(), changes.getBytes(StandardCharsets.UTF_8));
+        return changesFile;
+    }
+
+    /**
+     * A changes.xml file with a shared release, and a release of its own for every other module.
+     */
+    private static String changes(int index) {
+        StringBuilder sb = new StringBuilder("<document><body>");
+        sb.append("<release version=\"1.0\" date=\"2020-01-01\">");
+        sb.append("<action dev=\"me\" type=\"add\">Change ").append(index).append("</action></release>");
+        if (index % 2 == 1) {
+            sb.append("<release version=\"0.").append(index).append("\" date=\"2019-01-01\">");
+            sb.append("<action dev=\"me\" type=\"fix\">Fix ").append(index).append("</action></release>");
+        }
+        return sb.append("</body></document>").toString();
+    }
+
+    private static String describe(List<Release> releases) {
+        StringBuilder sb = new StringBuilder();
+        for (Release release : releases) {
+            sb.append(release.getVersion()).append(describeActions(release.getActions()));
+            for (Component component : release.getComponents()) {
+                sb.append(' ').append(component.getName()).append(describeActions(component.getActions()));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String describeActions(List<Action> actions) {
+        List<String> descriptions = new ArrayList<>();
+        for (Action action : actions) {
+            descriptions.add(action.getAction());
+        }
+        return descriptions.toString();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes;
+
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.maven.plugin.testing.SilentLog;
+import org.apache.maven.plugins.changes.model.Action;
+import org.apache.maven.plugins.changes.model.Release;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ChangesStreamReaderTest {
+
+    /** A document whose last release is not well-formed. */
+    private static final String TRUNCATED_CHANGES = "<document><properties><title>Title</title></properties><body>"
+            + "<release version=\"2.0\" date=\"2020-01-01\"><action dev=\"me\" type=\"add\"> Added &nbsp;it </action>"
+            + "</release>"
+            + "<release version=\"1.0\" date=\"2019-01-01\"><action dev=\"me\" type=\"fix\">Fixed</action></release>"
+            + "<release version=\"0.9\"><action></release>";
+
+    /** A document with markup characters, entities, CDATA sections and comments in its properties and releases. */
+    private static final String ESCAPED_CHANGES = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<document xmlns=\"http://maven.apache.org/changes/2.0.0\">"
+            + "<properties><title>Fish &amp; Chips &lt;3</title>"
+            + "<author email=\"a&amp;b@example.com\">&quot;Me&quot;</author></properties><body>"
+            + "<!-- the next release -->"
+            + "<release version=\"2.0\" date=\"2020-01-01\" description=\"Say &quot;hi&quot; &lt;&gt;\">"
+            + "<action dev=\"me\" type=\"add\" due-to=\"O&apos;Brien\" issue=\"1\">"
+            + "<![CDATA[Use <b>bold</b> & co]]> &#233;t&eacute; &gt; <!-- not a comment --> 5</action>"
+            + "<action dev=\"me\" type=\"fix\" fixed-issues=\"2,3\">Fixed</action>"
+            + "</release></body></document>";
+
+    @TempDir
+    private File tempDir;
+
+    private String getBasedir() {
+        final String path = System.getProperty("basedir");
+        return path != null ? path : new File("").getAbsolutePath();
+    }
+
+    @Test
+    public void testReleasesAreReadLikeTheGeneratedReader() throws Exception {
+        File changesFile = new File(getBasedir() + "/src/test/unit/changes.xml");
+        List<Release> expected = new ChangesXML(changesFile, new SilentLog()).getReleaseList();
+
+        List<Release> releases = ChangesStreamReader.readReleases(changesFile);
+
+        assertEquals(expected.size(), releases.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Release expectedRelease = expected.get(i);
+            Release release = releases.get(i);
+            assertEquals(expectedRelease.getVersion(), release.getVersion());
+            assertEquals(expectedRelease.getDateRelease(), release.getDateRelease());
+            assertEquals(expectedRelease.getDescription(), release.getDescription());
+            assertEquals(
+                    expectedRelease.getActions().size(), release.getActions().size());
+            for (int j = 0; j < expectedRelease.getActions().size(); j++) {
+                Action expectedAction = expectedRelease.getActions().get(j);
+                Action action = release.getActions().get(j);
+                assertEquals(expectedAction.getAction(), action.getAction());
+                assertEquals(expectedAction.getDev(), action.getDev());
+                assertEquals(expectedAction.getType(), action.getType());
+                assertEquals(expectedAction.getIssue(), action.getIssue());
+                assertEquals(expectedAction.getSystem(), action.getSystem());
+                assertEquals(expectedAction.getDate(), action.getDate());
+                assertEquals(expectedAction.getDueTo(), action.getDueTo());
+                assertEquals(expectedAction.getDueToEmail(), action.getDueToEmail());
+                assertEquals(expectedAction.getFixedIssuesString(), action.getFixedIssuesString());
+            }
+        }
+    }
+
+    @Test
+    public void testEscapedContentIsReadLikeTheGeneratedReader() throws Exception {
+        File changesFile = new File(tempDir, "changes.xml");
+        Files.write(changesFile.toPath(), ESCAPED_CHANGES.getBytes(StandardCharsets.UTF_8));
+        ChangesXML changesXML = new ChangesXML(changesFile, new SilentLog());
+        Release expected = changesXML.getReleaseList().get(0);
+
+        try (ChangesStreamReader reader = new ChangesStreamReader(changesFile)) {
+            assertEquals("Fish & Chips <3", reader.getProperties().getTitle());
+            assertEquals(changesXML.getTitle(), reader.getProperties().getTitle());
+            assertEquals(
+                    changesXML.getAuthor(), reader.getProperties().getAuthor().getName());
+            assertEquals("a&b@example.com", reader.getProperties().getAuthor().getAuthorEmail());
+
+            Release release = reader.nextRelease();
+            assertEquals("Say \"hi\" <>", release.getDescription());
+            assertEquals(expected.getDescription(), release.getDescription());
+            assertEquals(2, release.getActions().size());
+            Action action = release.getActions().get(0);
+            assertEquals("Use <b>bold</b> & co \u00e9t\u00e9 >  5", action.getAction());
+            assertEquals(expected.getActions().get(0).getAction(), action.getAction());
+            assertEquals("O'Brien", action.getDueTo());
+            assertEquals("2,3", release.getActions().get(1).getFixedIssuesString());
+            assertEquals(
+                    expected.getActions().get(1).getFixedIssuesString(),
+                    release.getActions().get(1).getFixedIssuesString());
+            assertNull(reader.nextRelease());
+        }
+    }
+
+    @Test
+    public void testReadingStopsAtTheRelease() throws Exception {
+        try (ChangesStreamReader reader = new ChangesStreamReader(new StringReader(TRUNCATED_CHANGES))) {
+            assertEquals("Title", reader.getProperties().getTitle());
+
+            Release release = reader.findRelease("1.0");
+
+            assertEquals("2019-01-01", release.getDateRelease());
+            assertEquals("Fixed", release.getActions().get(0).getAction());
+            assertThrows(XmlPullParserException.class, reader::nextRelease);
+        }
+    }
+
+    @Test
+    public void testMissingReleaseIsNotFound() throws Exception {
+        File changesFile = new File(getBasedir() + "/src/test/unit/changes.xml");
+        try (ChangesStreamReader reader = new ChangesStreamReader(changesFile)) {
+            assertNull(reader.findRelease("3.0"));
+            assertNull(reader.nextRelease());
+            assertEquals("Mr Zloug", reader.getProperties().getAuthor().getName());
+        }
+    }
+
+    @Test
+    public void testReleasesAreReadOnDemand() throws Exception {
+        File changesFile = new File(tempDir, "changes.xml");
+        Files.write(changesFile.toPath(), TRUNCATED_CHANGES.getBytes(StandardCharsets.UTF_8));
+
+        List<Release> releases = ChangesStreamReader.readReleases(changesFile);
+
+        assertFalse(releases.isEmpty());
+        assertEquals("Added \u00a0it", releases.get(0).getActions().get(0).getAction());
+        assertEquals("1.0", releases.get(1).getVersion());
+        assertThrows(ChangesXMLRuntimeException.class, releases::size);
+    }
+
+    @Test
+    public void testClosedReleasesAreNotRead() throws Exception {
+        File changesFile = new File(getBasedir() + "/src/test/unit/changes.xml");
+
+        try (ChangesStreamReader.ReleaseList releases = ChangesStreamReader.readReleases(changesFile)) {
+            Release release = releases.get(0);
+            releases.close();
+
+            assertEquals(release, releases.get(0));
+            assertThrows(IllegalStateException.class, releases::size);
+        }
+    }
+}
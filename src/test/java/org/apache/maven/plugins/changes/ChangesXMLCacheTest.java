@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.maven.plugins.changes.model.Action;
+import org.apache.maven.plugins.changes.model.ChangesDocument;
+import org.apache.maven.plugins.changes.model.Release;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ChangesXMLCacheTest {
+
+    private static final String CHANGES = "<document><properties><title>Title</title></properties><body>"
+            + "<release version=\"2.0\" date=\"2020-01-01\"><action dev=\"me\" type=\"add\">Added</action></release>"
+            + "<release version=\"1.0\" date=\"2019-01-01\"><action dev=\"me\" type=\"fix\">Fixed</action></release>"
+            + "</body></document>";
+
+    @TempDir
+    private File tempDir;
+
+    private File writeChanges(String content) throws Exception {
+        File changesFile = new File(tempDir, "changes.xml");
+        Files.write(changesFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return changesFile;
+    }
+
+    @Test
+    public void testFileIsParsedOnce() throws Exception {
+        File changesFile = writeChanges(CHANGES);
+        ChangesXMLCache cache = new ChangesXMLCache();
+        assertNull(cache.getIfCached(changesFile));
+
+        ChangesDocument first = cache.get(changesFile);
+        ChangesDocument second = cache.getIfCached(changesFile);
+
+        assertNotNull(second);
+        assertEquals("Title", second.getProperties().getTitle());
+        assertEquals(2, second.getBody().getReleases().size());
+        // the actions are shared, the file has not been parsed again
+        assertSame(
+                first.getBody().getReleases().get(0).getActions().get(0),
+                second.getBody().getReleases().get(0).getActions().get(0));
+    }
+
+    @Test
+    public void testReleasesAreCopied() throws Exception {
+        File changesFile = writeChanges(CHANGES);
+        ChangesXMLCache cache = new ChangesXMLCache();
+
+        Release release = cache.get(changesFile).getBody().getReleases().get(0);
+        release.addAction(new Action());
+        release.setVersion("3.0");
+
+        Release cached = cache.get(changesFile).getBody().getReleases().get(0);
+        assertEquals("2.0", cached.getVersion());
+        assertEquals(1, cached.getActions().size());
+    }
+
+    @Test
+    public void testChangedFileIsParsedAgain() throws Exception {
+        File changesFile = writeChanges(CHANGES);
+        ChangesXMLCache cache = new ChangesXMLCache();
+        cache.get(changesFile);
+
+        writeChanges(CHANGES.replace("Added", "Removed"));
+        changesFile.setLastModified(changesFile.lastModified() + 2000);
+
+        assertNull(cache.getIfCached(changesFile));
+        ChangesDocument document = cache.get(changesFile);
+        assertEquals(
+                "Removed",
+                document.getBody().getReleases().get(0).getActions().get(0).getAction());
+    }
+
+    @Test
+    public void testTouchedFileIsNotParsedAgain() throws Exception {
+        File changesFile = writeChanges(CHANGES);
+        ChangesXMLCache cache = new ChangesXMLCache();
+        ChangesDocument first = cache.get(changesFile);
+
+        changesFile.setLastModified(changesFile.lastModified() + 2000);
+
+        assertNull(cache.getIfCached(changesFile));
+        ChangesDocument second = cache.get(changesFile);
+        assertSame(
+                first.getBody().getReleases().get(0).getActions().get(0),
+                second.getBody().getReleases().get(0).getActions().get(0));
+        assertNotNull(cache.getIfCached(changesFile));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedFileIsDropped() throws Exception {
+        ChangesXMLCache cache = new ChangesXMLCache(2);
+        File[] files = new File[3];
+        for (int i = 0; i < files.length; i++) {
+            files[i] = new File(tempDir, "changes-" + i + ".xml");
+            Files.write(files[i].toPath(), CHANGES.getBytes(StandardCharsets.UTF_8));
+        }
+
+        cache.get(files[0]);
+        cache.get(files[1]);
+        cache.getIfCached(files[0]);
+        cache.get(files[2]);
+
+        assertNotNull(cache.getIfCached(files[0]));
+        assertNull(cache.getIfCached(files[1]));
+        assertNotNull(cache.getIfCached(files[2]));
+    }
+}
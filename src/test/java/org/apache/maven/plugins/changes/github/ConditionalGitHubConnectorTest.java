@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.maven.plugins.changes.issues.ConditionalRequestCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConditionalGitHubConnectorTest {
+
+    private static final String BODY = "[{\"number\":1}]";
+
+    @TempDir
+    private File cacheDirectory;
+
+    private final List<GitHubConnectorRequest> sentRequests = new ArrayList<>();
+
+    @Test
+    public void testNotModifiedIsServedFromCache() throws Exception {
+        ConditionalGitHubConnector connector = new ConditionalGitHubConnector(
+                request -> {
+                    sentRequests.add(request);
+                    if ("\"v1\"".equals(request.header("If-None-Match"))) {
+                        return new Response(request, 304, headers("X-RateLimit-Remaining", "4999"), "");
+                    }
+                    Map<String, List<String>> headers = headers("ETag", "\"v1\"");
+                    headers.put("Link", Collections.singletonList("<https://api.github.com/next>; rel=\"next\""));
+                    headers.put("X-RateLimit-Remaining", Collections.singletonList("5000"));
+                    return new Response(request, 200, headers, BODY);
+                },
+                new ConditionalRequestCache(cacheDirectory));
+
+        GitHubConnectorResponse first = connector.send(newRequest());
+        assertEquals(200, first.statusCode());
+        assertEquals(BODY, read(first));
+        assertNull(sentRequests.get(0).header("If-None-Match"));
+
+        GitHubConnectorResponse second = connector.send(newRequest());
+        assertEquals(200, second.statusCode());
+        assertEquals(BODY, read(second));
+        assertEquals("\"v1\"", sentRequests.get(1).header("If-None-Match"));
+        // pagination comes from the cached headers, the rate limit from the fresh ones
+        assertEquals("<https://api.github.com/next>; rel=\"next\"", second.header("Link"));
+        assertEquals("4999", second.header("X-RateLimit-Remaining"));
+        assertEquals(1, connector.getNotModifiedResponses());
+    }
+
+    @Test
+    public void testResponsesWithoutValidatorsAreNotCached() throws Exception {
+        ConditionalGitHubConnector connector = new ConditionalGitHubConnector(
+                request -> {
+                    sentRequests.add(request);
+                    return new Response(request, 200, new HashMap<>(), BODY);
+                },
+                new ConditionalRequestCache(cacheDirectory));
+
+        assertEquals(BODY, read(connector.send(newRequest())));
+        assertEquals(BODY, read(connector.send(newRequest())));
+        assertNull(sentRequests.get(1).header("If-None-Match"));
+        assertEquals(0, connector.getNotModifiedResponses());
+    }
+
+    private static GitHubConnectorRequest newRequest() throws IOException {
+        GitHubConnectorRequest request = mock(GitHubConnectorRequest.class);
+        when(request.method()).thenReturn("GET");
+        when(request.url()).thenReturn(new URL("https://api.github.com/repos/owner/repo/issues"));
+        when(request.allHeaders()).thenReturn(headers("Accept", "application/vnd.github+json"));
+        when(request.header("Accept")).thenReturn("application/vnd.github+json");
+        return request;
+    }
+
+    private static Map<String, List<String>> headers(String name, String value) {
+        Map<String, List<String>> headers = new HashMap<>();
+        headers.put(name, Collections.singletonList(value));
+        return headers;
+    }
+
+    private static String read(GitHubConnectorResponse response) throws IOException {
+        try (InputStream in = response.bodyStream()) {
+            return IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static class Response extends GitHubConnectorResponse.ByteArrayResponse {
+        private final String body;
+
+        Response(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers, String body) {
+            super(request, statusCode, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.function.IOSupplier;
+import org.apache.maven.execution.MavenSession;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class GitHubClientPoolTest {
+
+    private static final String REPOSITORY = "owner/repo";
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private final IOSupplier<GHRepository> loader = () -> {
+        lookups.incrementAndGet();
+        return mock(GHRepository.class);
+    };
+
+    @Test
+    public void testRepositoryIsSharedWithinASession() throws Exception {
+        GitHubClientPool pool = new GitHubClientPool();
+        MavenSession session = mock(MavenSession.class);
+
+        GHRepository repository = pool.get(session, null, "token", null, REPOSITORY, loader);
+
+        assertSame(repository, pool.get(session, null, "token", null, REPOSITORY, loader));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testRepositoryIsNotSharedBetweenTokensOrServers() throws Exception {
+        GitHubClientPool pool = new GitHubClientPool();
+        MavenSession session = mock(MavenSession.class);
+
+        GHRepository repository = pool.get(session, null, "token", null, REPOSITORY, loader);
+
+        assertNotSame(repository, pool.get(session, null, "other", null, REPOSITORY, loader));
+        assertNotSame(repository, pool.get(session, null, null, null, REPOSITORY, loader));
+        assertNotSame(repository, pool.get(session, "https://github.example.com", "token", null, REPOSITORY, loader));
+        assertNotSame(repository, pool.get(session, null, "token", new File("cache"), REPOSITORY, loader));
+        assertEquals(5, lookups.get());
+    }
+
+    @Test
+    public void testRepositoryIsNotSharedBetweenSessions() throws Exception {
+        GitHubClientPool pool = new GitHubClientPool();
+
+        GHRepository repository = pool.get(mock(MavenSession.class), null, "token", null, REPOSITORY, loader);
+
+        assertNotSame(repository, pool.get(mock(MavenSession.class), null, "token", null, REPOSITORY, loader));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testDisposedPoolIsEmpty() throws Exception {
+        GitHubClientPool pool = new GitHubClientPool();
+        MavenSession session = mock(MavenSession.class);
+        GHRepository repository = pool.get(session, null, "token", null, REPOSITORY, loader);
+
+        pool.dispose();
+
+        assertNotSame(repository, pool.get(session, null, "token", null, REPOSITORY, loader));
+        assertEquals(2, lookups.get());
+    }
+}
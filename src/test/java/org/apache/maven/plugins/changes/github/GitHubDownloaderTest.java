@@ -18,10 +18,21 @@
  */
 package org.apache.maven.plugins.changes.github;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.IssueManagement;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.changes.issues.Issue;
@@ -38,17 +49,23 @@ import org.junit.jupiter.api.Test;
 import org.kohsuke.github.GHIssue;
 import org.kohsuke.github.GHIssueState;
 import org.kohsuke.github.GHUser;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
 import org.mockito.ArgumentCaptor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GitHubDownloaderTest {
 
+    private final List<String> requestedUrls = new CopyOnWriteArrayList<>();
+
     @Test
     public void testCreateIssue() throws IOException {
         IssueManagement issueManagement = newGitHubIssueManagement();
@@ -70,6 +87,26 @@ public class GitHubDownloaderTest {
         assertEquals(issueManagement.getUrl() + githubIssue.getNumber(), issue.getLink());
     }
 
+    @Test
+    public void testAssigneeNameIsLookedUpOncePerUser() throws IOException {
+        GitHubDownloader gitHubDownloader = newGitHubDownloader(newGitHubIssueManagement());
+        GHUser firstAssignee = mock(GHUser.class);
+        when(firstAssignee.getLogin()).thenReturn("jdoe");
+        when(firstAssignee.getName()).thenReturn("John Doe");
+        GHUser secondAssignee = mock(GHUser.class);
+        when(secondAssignee.getLogin()).thenReturn("jdoe");
+
+        for (GHUser assignee : Arrays.asList(firstAssignee, secondAssignee)) {
+            GHIssue githubIssue = mock(GHIssue.class);
+            when(githubIssue.getUser()).thenReturn(new GHUser());
+            when(githubIssue.getState()).thenReturn(GHIssueState.CLOSED);
+            when(githubIssue.getAssignee()).thenReturn(assignee);
+            assertEquals("John Doe", gitHubDownloader.createIssue(githubIssue).getAssignee());
+        }
+
+        verify(secondAssignee, never()).getName();
+    }
+
     @Test
     public void testConfigureAuthenticationWithProblems() throws Exception {
         IssueManagement issueManagement = newGitHubIssueManagement();
@@ -115,6 +152,90 @@ public class GitHubDownloaderTest {
         verify(log).warn("Can't find server id [github-server] configured in settings.xml");
     }
 
+    @Test
+    public void testMilestoneIsFilteredByGitHub() throws Exception {
+        GitHubDownloader gitHubDownloader = newGitHubDownloader(newGitHubIssueManagement(), false, true);
+        gitHubDownloader.setConnector(this::send);
+        gitHubDownloader.setMilestone("1.1");
+
+        List<Issue> issues = gitHubDownloader.getIssueList();
+
+        assertEquals(1, issues.size());
+        assertEquals("7", issues.get(0).getKey());
+        assertEquals(Collections.singletonList("1.1"), issues.get(0).getFixVersions());
+        String issuesUrl = requestedUrls.get(requestedUrls.size() - 1);
+        assertTrue(issuesUrl.contains("milestone=2"), issuesUrl);
+        assertTrue(issuesUrl.contains("state=closed"), issuesUrl);
+        assertTrue(issuesUrl.contains("per_page=100"), issuesUrl);
+    }
+
+    @Test
+    public void testRepositoryIsLookedUpOnce() throws Exception {
+        GitHubClientPool clientPool = new GitHubClientPool();
+        MavenSession session = mock(MavenSession.class);
+        GitHubRateLimitGovernor rateLimitGovernor = new GitHubRateLimitGovernor();
+        for (int i = 0; i < 2; i++) {
+            GitHubDownloader gitHubDownloader = newGitHubDownloader(newGitHubIssueManagement(), true, true);
+            gitHubDownloader.setConnector(this::send);
+            gitHubDownloader.setClientPool(clientPool, session);
+            gitHubDownloader.setRateLimitGovernor(rateLimitGovernor);
+            assertEquals(2, gitHubDownloader.getIssueList().size());
+            assertEquals(i == 0 ? 3 : 2, gitHubDownloader.getRequests());
+        }
+
+        // the open and the closed issues of both downloaders are listed with the same repository
+        assertEquals(
+                1,
+                requestedUrls.stream()
+                        .filter(url -> url.endsWith("/repos/dadoonet/spring-elasticsearch"))
+                        .count());
+        assertEquals(
+                4, requestedUrls.stream().filter(url -> url.contains("/issues")).count());
+    }
+
+    @Test
+    public void testOpenAndClosedIssuesAreListedConcurrently() throws Exception {
+        GitHubDownloader gitHubDownloader = newGitHubDownloader(newGitHubIssueManagement(), true, false);
+        CyclicBarrier bothListsRequested = new CyclicBarrier(2);
+        gitHubDownloader.setConnector(request -> {
+            if (request.url().getPath().endsWith("/issues")) {
+                try {
+                    bothListsRequested.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    throw new IOException("The open and the closed issues were not requested together", e);
+                }
+            }
+            return send(request);
+        });
+
+        List<Issue> issues = gitHubDownloader.getIssueList();
+
+        assertEquals(2, issues.size());
+        assertEquals("OPEN", issues.get(0).getStatus());
+        assertEquals("CLOSED", issues.get(1).getStatus());
+    }
+
+    @Test
+    public void testPullRequestsCanBeExcluded() throws Exception {
+        GitHubDownloader gitHubDownloader = newGitHubDownloader(newGitHubIssueManagement(), false, false);
+        gitHubDownloader.setConnector(request -> {
+            if (request.url().getPath().endsWith("/issues")) {
+                return new Response(
+                        request,
+                        "[{\"number\":7,\"title\":\"Fixed\",\"state\":\"closed\",\"user\":{\"login\":\"someone\"}},"
+                                + "{\"number\":9,\"title\":\"Fix\",\"state\":\"closed\",\"user\":{\"login\":\"someone\"},"
+                                + "\"pull_request\":{\"url\":\"https://api.github.com/repos/dadoonet/spring-elasticsearch/pulls/9\"}}]");
+            }
+            return send(request);
+        });
+        gitHubDownloader.setIncludePullRequests(false);
+
+        List<Issue> issues = gitHubDownloader.getIssueList();
+
+        assertEquals(1, issues.size());
+        assertEquals("7", issues.get(0).getKey());
+    }
+
     private Server newServer(String id) {
         Server server = new Server();
         server.setId(id);
@@ -124,9 +245,54 @@ public class GitHubDownloaderTest {
     }
 
     private GitHubDownloader newGitHubDownloader(IssueManagement issueManagement) throws IOException {
+        return newGitHubDownloader(issueManagement, true, false);
+    }
+
+    private GitHubDownloader newGitHubDownloader(
+            IssueManagement issueManagement, boolean includeOpenIssues, boolean onlyMilestoneIssues)
+            throws IOException {
         MavenProject mavenProject = new MavenProject();
         mavenProject.setIssueManagement(issueManagement);
-        return new GitHubDownloader(mavenProject, true, false);
+        return new GitHubDownloader(mavenProject, includeOpenIssues, onlyMilestoneIssues);
+    }
+
+    /**
+     * Answers the requests of the GitHub client like the GitHub API does.
+     */
+    private GitHubConnectorResponse send(GitHubConnectorRequest request) {
+        requestedUrls.add(request.url().toString());
+        String path = request.url().getPath();
+        if (path.endsWith("/milestones")) {
+            return new Response(request, "[{\"number\":1,\"title\":\"1.0\"},{\"number\":2,\"title\":\"1.1\"}]");
+        } else if (path.endsWith("/issues") && request.url().getQuery().contains("state=open")) {
+            return new Response(
+                    request,
+                    "[{\"number\":8,\"title\":\"Pending\",\"state\":\"open\",\"user\":{\"login\":\"someone\"},"
+                            + "\"milestone\":{\"number\":2,\"title\":\"1.1\"}}]");
+        } else if (path.endsWith("/issues")) {
+            return new Response(
+                    request,
+                    "[{\"number\":7,\"title\":\"Fixed\",\"state\":\"closed\",\"user\":{\"login\":\"someone\"},"
+                            + "\"milestone\":{\"number\":2,\"title\":\"1.1\"}}]");
+        }
+        return new Response(
+                request,
+                "{\"name\":\"spring-elasticsearch\",\"full_name\":\"dadoonet/spring-elasticsearch\","
+                        + "\"owner\":{\"login\":\"dadoonet\"}}");
+    }
+
+    private static class Response extends GitHubConnectorResponse.ByteArrayResponse {
+        private final String body;
+
+        Response(GitHubConnectorRequest request, String body) {
+            super(request, 200, new HashMap<>());
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        }
     }
 
     private IssueManagement newGitHubIssueManagement() {
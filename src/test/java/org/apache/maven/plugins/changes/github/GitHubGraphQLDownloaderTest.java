@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.maven.model.IssueManagement;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.changes.issues.Issue;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Server;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.crypto.SettingsDecrypter;
+import org.apache.maven.settings.crypto.SettingsDecryptionRequest;
+import org.apache.maven.settings.crypto.SettingsDecryptionResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link GitHubGraphQLDownloader} against a local stub of the GitHub GraphQL API.
+ */
+public class GitHubGraphQLDownloaderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** The variables of the queries received by the stub. */
+    private final List<JsonNode> queries = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/graphql", this::graphql);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testIssuesArePagedThrough() throws Exception {
+        GitHubDownloader downloader = newDownloader(true, false);
+
+        List<Issue> issues = downloader.getIssueList();
+
+        assertEquals(3, issues.size());
+        Issue open = issues.get(0);
+        assertEquals("3", open.getKey());
+        assertEquals("OPEN", open.getStatus());
+        assertEquals("John Doe", open.getAssignee());
+        assertEquals("bug", open.getType());
+        assertEquals(Collections.singletonList("1.1"), open.getFixVersions());
+        assertEquals("http://localhost:" + server.getAddress().getPort() + "/owner/repo/issues/3", open.getLink());
+        Issue closed = issues.get(2);
+        assertEquals("1", closed.getKey());
+        assertEquals("CLOSED", closed.getStatus());
+        assertEquals("jdoe", closed.getAssignee());
+        assertEquals("someone", closed.getReporter());
+        assertEquals(1577836800000L, closed.getCreated().getTime());
+
+        // one page of open issues, two pages of closed issues
+        assertEquals(3, queries.size());
+        assertEquals("page-2", queries.get(2).path("cursor").asText());
+        assertEquals(0, queries.get(0).path("filterBy").size());
+    }
+
+    @Test
+    public void testMilestoneIsResolvedToItsNumber() throws Exception {
+        GitHubDownloader downloader = newDownloader(false, true);
+        downloader.setMilestone("1.1");
+
+        downloader.getIssueList();
+
+        assertEquals("1.1", queries.get(0).path("title").asText());
+        // the number of the milestone, not its database id
+        JsonNode filterBy = queries.get(1).path("filterBy");
+        assertEquals("2", filterBy.path("milestoneNumber").asText());
+        assertTrue(filterBy.path("milestone").isMissingNode());
+    }
+
+    @Test
+    public void testAnyMilestoneIsFiltered() throws Exception {
+        GitHubDownloader downloader = newDownloader(false, true);
+
+        downloader.getIssueList();
+
+        JsonNode filterBy = queries.get(0).path("filterBy");
+        assertEquals("*", filterBy.path("milestone").asText());
+        assertTrue(filterBy.path("milestoneNumber").isMissingNode());
+    }
+
+    @Test
+    public void testTokenIsRequired() throws Exception {
+        GitHubDownloader downloader =
+                GitHubDownloader.newInstance(GitHubDownloader.API_GRAPHQL, newProject(), false, false);
+
+        IOException e = assertThrows(IOException.class, downloader::getIssueList);
+        assertTrue(e.getMessage().contains("requires a token"), e.getMessage());
+    }
+
+    private GitHubDownloader newDownloader(boolean includeOpenIssues, boolean onlyMilestoneIssues) throws IOException {
+        GitHubDownloader downloader = GitHubDownloader.newInstance(
+                GitHubDownloader.API_GRAPHQL, newProject(), includeOpenIssues, onlyMilestoneIssues);
+
+        Server githubServer = new Server();
+        githubServer.setId("github");
+        githubServer.setPassword("token");
+        Settings settings = new Settings();
+        settings.addServer(githubServer);
+        SettingsDecryptionResult result = mock(SettingsDecryptionResult.class);
+        when(result.getServer()).thenReturn(githubServer);
+        SettingsDecrypter decrypter = mock(SettingsDecrypter.class);
+        when(decrypter.decrypt(any(SettingsDecryptionRequest.class))).thenReturn(result);
+        downloader.configureAuthentication(decrypter, "github", settings, mock(Log.class));
+        return downloader;
+    }
+
+    private MavenProject newProject() {
+        IssueManagement issueManagement = new IssueManagement();
+        issueManagement.setSystem("GitHub");
+        issueManagement.setUrl("http://localhost:" + server.getAddress().getPort() + "/owner/repo/issues");
+        MavenProject project = new MavenProject();
+        project.setIssueManagement(issueManagement);
+        return project;
+    }
+
+    private void graphql(HttpExchange exchange) throws IOException {
+        JsonNode request;
+        try (InputStream in = exchange.getRequestBody()) {
+            request = MAPPER.readTree(in);
+        }
+        if (!"Bearer token".equals(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            respond(exchange, 401, "{\"message\":\"Bad credentials\"}");
+            return;
+        }
+        JsonNode variables = request.path("variables");
+        queries.add(variables);
+
+        String repository;
+        if (request.path("query").asText().contains("milestones(")) {
+            repository = "{\"milestones\":{\"nodes\":[{\"number\":2,\"databaseId\":7031,\"title\":\"1.1\"},"
+                    + "{\"number\":5,\"databaseId\":7032,\"title\":\"1.1.1\"}]}}";
+        } else if ("OPEN".equals(variables.path("states").path(0).asText())) {
+            repository = issues(false, null, issue(3, "OPEN", "{\"login\":\"jdoe\",\"name\":\"John Doe\"}"));
+        } else if (variables.path("cursor").isNull()) {
+            repository = issues(true, "page-2", issue(2, "CLOSED", null));
+        } else {
+            repository = issues(false, null, issue(1, "CLOSED", "{\"login\":\"jdoe\",\"name\":\"\"}"));
+        }
+        respond(exchange, 200, "{\"data\":{\"repository\":" + repository + "}}");
+    }
+
+    private static String issues(boolean hasNextPage, String endCursor, String nodes) {
+        return "{\"issues\":{\"pageInfo\":{\"hasNextPage\":" + hasNextPage + ",\"endCursor\":"
+                + (endCursor == null ? "null" : "\"" + endCursor + "\"") + "},\"nodes\":[" + nodes + "]}}";
+    }
+
+    private static String issue(int number, String state, String assignee) {
+        return "{\"number\":" + number + ",\"title\":\"Issue " + number + "\",\"state\":\"" + state + "\","
+                + "\"createdAt\":\"2020-01-01T00:00:00Z\",\"updatedAt\":\"2020-01-02T00:00:00Z\","
+                + "\"milestone\":{\"title\":\"1.1\"},\"labels\":{\"nodes\":[{\"name\":\"bug\"}]},"
+                + "\"assignees\":{\"nodes\":[" + (assignee == null ? "" : assignee) + "]},"
+                + "\"author\":{\"login\":\"someone\"}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
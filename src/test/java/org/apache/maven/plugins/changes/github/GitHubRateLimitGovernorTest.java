@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.github;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.maven.plugin.logging.Log;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class GitHubRateLimitGovernorTest {
+
+    private static final long MAX_WAIT = 60000L;
+
+    private final Log log = mock(Log.class);
+
+    @Test
+    public void testRequestsAreCountedAgainstTheBudget() throws Exception {
+        GitHubRateLimitGovernor.Budget budget = new GitHubRateLimitGovernor.Budget(10);
+        long reset = System.currentTimeMillis() / 1000 + 3600;
+        budget.update(headers(5000, 4000, reset));
+
+        budget.acquire(MAX_WAIT, log);
+        budget.acquire(MAX_WAIT, log);
+
+        assertEquals(2, budget.getRequests());
+        assertEquals(3998, budget.getRemaining());
+        assertEquals(5000, budget.getLimit());
+        assertEquals(0, budget.getDeferredTime());
+        verify(log, never()).warn(anyString());
+
+        // a late response of an earlier request does not give the budget back
+        budget.update(headers(5000, 3999, reset));
+        assertEquals(3998, budget.getRemaining());
+    }
+
+    @Test
+    public void testRequestsAreDeferredUntilTheReset() throws Exception {
+        GitHubRateLimitGovernor.Budget budget = new GitHubRateLimitGovernor.Budget(10);
+        long reset = System.currentTimeMillis() / 1000 + 1;
+        budget.update(headers(5000, 10, reset));
+
+        budget.acquire(MAX_WAIT, log);
+
+        assertTrue(System.currentTimeMillis() >= reset * 1000);
+        assertTrue(budget.getDeferredTime() > 0);
+        verify(log).warn(startsWith("Only 10 requests of the GitHub rate limit are left, waiting "));
+
+        // the reset has passed, the next request goes through at once
+        long deferredTime = budget.getDeferredTime();
+        budget.acquire(MAX_WAIT, log);
+        assertEquals(deferredTime, budget.getDeferredTime());
+        assertEquals(-1, budget.getRemaining());
+    }
+
+    @Test
+    public void testLongWaitsFail() {
+        GitHubRateLimitGovernor.Budget budget = new GitHubRateLimitGovernor.Budget(10);
+        long reset = System.currentTimeMillis() / 1000 + 3600;
+        budget.update(headers(5000, 10, reset));
+
+        assertThrows(IOException.class, () -> budget.acquire(MAX_WAIT, log));
+        assertThrows(IOException.class, () -> budget.acquire(0, log));
+        assertEquals(0, budget.getRequests());
+        assertEquals(0, budget.getDeferredTime());
+        verify(log, never()).warn(anyString());
+    }
+
+    @Test
+    public void testBudgetsAreSharedByKey() {
+        GitHubRateLimitGovernor governor = new GitHubRateLimitGovernor();
+
+        assertSame(governor.get("token", 10), governor.get("token", 20));
+    }
+
+    private static Function<String, String> headers(int limit, int remaining, long reset) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-RateLimit-Limit", String.valueOf(limit));
+        headers.put("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.put("X-RateLimit-Reset", String.valueOf(reset));
+        return headers::get;
+    }
+}
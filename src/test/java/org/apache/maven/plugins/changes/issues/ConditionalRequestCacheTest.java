@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.issues;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ConditionalRequestCacheTest {
+
+    private static final byte[] BODY = "[{\"id\":\"1\"}]".getBytes(StandardCharsets.UTF_8);
+
+    private static final String KEY = ConditionalRequestCache.getKey("http://localhost/rest/api/2/status", "user");
+
+    @TempDir
+    private File cacheDirectory;
+
+    @Test
+    public void testEntryIsReadBack() throws Exception {
+        ConditionalRequestCache cache = writeEntry();
+
+        ConditionalRequestCache.Entry entry = cache.read(KEY);
+        assertEquals("\"v1\"", entry.getETag());
+        assertNull(entry.getLastModified());
+        assertEquals(
+                Collections.singletonList("application/json"),
+                entry.getHeaders().get("content-type"));
+        assertArrayEquals(BODY, entry.getBody());
+    }
+
+    @Test
+    public void testTruncatedEntryIsDropped() throws Exception {
+        ConditionalRequestCache cache = writeEntry();
+        File file = getCacheFile();
+        byte[] content = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(content, content.length - 2));
+
+        assertNull(cache.read(KEY));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void testCorruptedLengthIsDropped() throws Exception {
+        for (int length : new int[] {-1, Integer.MAX_VALUE}) {
+            ConditionalRequestCache cache = writeEntry();
+            File file = getCacheFile();
+            byte[] content = Files.readAllBytes(file.toPath());
+            // the length of the body is written right before it
+            ByteBuffer.wrap(content).putInt(content.length - BODY.length - 4, length);
+            Files.write(file.toPath(), content);
+
+            assertNull(cache.read(KEY));
+            assertFalse(file.exists());
+        }
+    }
+
+    private ConditionalRequestCache writeEntry() throws Exception {
+        ConditionalRequestCache cache = new ConditionalRequestCache(cacheDirectory);
+        Map<String, List<String>> headers = Collections.singletonMap("Content-Type", Arrays.asList("application/json"));
+        cache.write(KEY, new ConditionalRequestCache.Entry("\"v1\"", null, headers, BODY));
+        return cache;
+    }
+
+    private File getCacheFile() {
+        File[] files = cacheDirectory.listFiles();
+        assertEquals(1, files.length);
+        return files[0];
+    }
+}
@@ -0,0 +1,622 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.jira;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.maven.model.IssueManagement;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.changes.issues.DownloadStatistics;
+import org.apache.maven.plugins.changes.issues.Issue;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.settings.Settings;
+import org.apache.maven.settings.crypto.SettingsDecrypter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests {@link RestJiraDownloader} against a local stub of the JIRA REST API.
+ */
+public class RestJiraDownloaderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Number of issues known by the stub. */
+    private int totalIssues;
+
+    /** Page size cap applied by the stub, like a real JIRA does. */
+    private int serverMaxResults;
+
+    private final AtomicInteger serverInfoRequests = new AtomicInteger();
+
+    private final AtomicInteger searchRequests = new AtomicInteger();
+
+    private final AtomicInteger statusRequests = new AtomicInteger();
+
+    private final AtomicInteger sessionRequests = new AtomicInteger();
+
+    private final AtomicInteger statusNotModified = new AtomicInteger();
+
+    /** Number of searches the stub still answers with 503 Service Unavailable. */
+    private final AtomicInteger unavailableSearches = new AtomicInteger();
+
+    /** Numbers of the issues that are reported as recently updated. */
+    private final Set<Integer> updatedIssues = new HashSet<>();
+
+    @TempDir
+    private File cacheDirectory;
+
+    /** Whether the stub gzips its responses when the client accepts it. */
+    private boolean compressResponses;
+
+    /** The fields requested by the last search. */
+    private volatile List<String> requestedFields;
+
+    /** The maxResults of the last search. */
+    private volatile int requestedMaxResults;
+
+    /** The JQL query of the last search. */
+    private volatile String requestedJql;
+
+    /** Barrier the metadata lists wait at before being answered, or <code>null</code> to answer them at once. */
+    private volatile CyclicBarrier metadataBarrier;
+
+    /** Whether a metadata list has been answered without all the lists being requested at once. */
+    private volatile boolean metadataRequestedSerially;
+
+    /** The path of a metadata list that the stub fails with 500 Internal Server Error. */
+    private volatile String failingMetadata;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/rest/api/2/serverInfo", exchange -> {
+            serverInfoRequests.incrementAndGet();
+            respond(exchange, "{}");
+        });
+        server.createContext("/rest/api/2/search", this::search);
+        server.createContext("/rest/auth/1/session", exchange -> {
+            sessionRequests.incrementAndGet();
+            respond(exchange, "{}");
+        });
+        metadataContext("/rest/api/2/project/TEST/components", "[{\"id\":\"10\",\"name\":\"Core\"}]");
+        metadataContext("/rest/api/2/project/TEST/versions", "[{\"id\":\"20\",\"name\":\"1.0\"}]");
+        metadataContext("/rest/api/2/resolution", "[{\"id\":\"30\",\"name\":\"Fixed\"}]");
+        metadataContext("/rest/api/2/issuetype", "[{\"id\":\"40\",\"name\":\"Bug\"}]");
+        metadataContext("/rest/api/2/priority", "[{\"id\":\"50\",\"name\":\"Major\"}]");
+        server.createContext("/rest/api/2/status", exchange -> {
+            statusRequests.incrementAndGet();
+            awaitMetadataBarrier();
+            if ("\"statuses-1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                statusNotModified.incrementAndGet();
+                // the JDK server drops the connection after a 304, tell the client not to reuse it
+                exchange.getResponseHeaders().add("Connection", "close");
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"statuses-1\"");
+            respond(exchange, "[{\"id\":\"1\",\"name\":\"Open\"},{\"id\":\"6\",\"name\":\"Closed\"}]");
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testSearchWalksAllPages() throws Exception {
+        totalIssues = 120;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(500, 50);
+        downloader.doExecute();
+
+        List<Issue> issues = downloader.getIssueList();
+        assertEquals(120, issues.size());
+        assertEquals(3, searchRequests.get());
+        for (int i = 0; i < issues.size(); i++) {
+            assertEquals("TEST-" + i, issues.get(i).getKey());
+        }
+    }
+
+    @Test
+    public void testSearchHonoursServerPageCap() throws Exception {
+        totalIssues = 95;
+        serverMaxResults = 20;
+
+        RestJiraDownloader downloader = newDownloader(500, 50);
+        downloader.doExecute();
+
+        List<Issue> issues = downloader.getIssueList();
+        assertEquals(95, issues.size());
+        assertEquals(5, searchRequests.get());
+        assertEquals("TEST-94", issues.get(94).getKey());
+    }
+
+    @Test
+    public void testSearchStopsAtMaxEntries() throws Exception {
+        totalIssues = 200;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(60, 50);
+        downloader.doExecute();
+
+        List<Issue> issues = downloader.getIssueList();
+        assertEquals(60, issues.size());
+        assertEquals(2, searchRequests.get());
+        assertEquals("TEST-59", issues.get(59).getKey());
+    }
+
+    @Test
+    public void testConcurrentSearchKeepsJqlOrder() throws Exception {
+        totalIssues = 230;
+        serverMaxResults = 20;
+
+        RestJiraDownloader downloader = newDownloader(500, 50);
+        downloader.setConcurrency(4);
+        downloader.doExecute();
+
+        List<Issue> issues = downloader.getIssueList();
+        assertEquals(230, issues.size());
+        assertEquals(12, searchRequests.get());
+        for (int i = 0; i < issues.size(); i++) {
+            assertEquals("TEST-" + i, issues.get(i).getKey());
+        }
+    }
+
+    @Test
+    public void testSearchRequestsOnlyConfiguredFields() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.doExecute();
+        assertEquals(RestJiraDownloader.ISSUE_FIELDS, requestedFields);
+
+        downloader.setFields(Arrays.asList("summary", "fixVersions"));
+        downloader.doExecute();
+        assertEquals(Arrays.asList("summary", "fixVersions"), requestedFields);
+
+        Issue issue = downloader.getIssueList().get(2);
+        assertEquals("Issue 2", issue.getSummary());
+        assertEquals(Collections.singletonList("1.0"), issue.getFixVersions());
+    }
+
+    @Test
+    public void testCachedSearchOnlyDownloadsUpdatedIssues() throws Exception {
+        totalIssues = 10;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(10, downloader.getIssueList().size());
+        assertEquals(1, searchRequests.get());
+
+        // nothing has been updated: a single query for updated keys
+        downloader = newDownloader(100, 50);
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(10, downloader.getIssueList().size());
+        assertEquals(2, searchRequests.get());
+        assertEquals(Collections.singletonList("id"), requestedFields);
+        assertEquals(1, requestedMaxResults);
+
+        // one issue has been updated: updated keys, updated issues and the current order
+        updatedIssues.add(3);
+        downloader = newDownloader(100, 50);
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        List<Issue> issues = downloader.getIssueList();
+        assertEquals(10, issues.size());
+        assertEquals(5, searchRequests.get());
+        assertEquals("Updated issue 3", issues.get(3).getSummary());
+        assertEquals("Issue 4", issues.get(4).getSummary());
+        assertEquals(Collections.singletonList("1.0"), issues.get(4).getFixVersions());
+    }
+
+    @Test
+    public void testCachedIssuesAreNotSharedBetweenUsers() throws Exception {
+        totalIssues = 10;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setJiraUser("user");
+        downloader.setJiraPassword("password");
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(10, downloader.getIssueList().size());
+        assertEquals(1, searchRequests.get());
+
+        // another user downloads all the issues again
+        downloader = newDownloader(100, 50);
+        downloader.setJiraUser("other");
+        downloader.setJiraPassword("password");
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(2, searchRequests.get());
+        assertEquals(RestJiraDownloader.ISSUE_FIELDS, requestedFields);
+
+        // and so does an anonymous run
+        downloader = newDownloader(100, 50);
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(3, searchRequests.get());
+        assertEquals(RestJiraDownloader.ISSUE_FIELDS, requestedFields);
+
+        // while the first user still only asks for updated keys
+        downloader = newDownloader(100, 50);
+        downloader.setJiraUser("user");
+        downloader.setJiraPassword("password");
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(4, searchRequests.get());
+        assertEquals(Collections.singletonList("id"), requestedFields);
+        assertEquals(10, downloader.getIssueList().size());
+    }
+
+    @Test
+    public void testMetadataIsSharedBetweenDownloaders() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        JiraMetadataCache metadataCache = new JiraMetadataCache();
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Closed, 1");
+        downloader.setMetadataCache(metadataCache, 60000L);
+        downloader.doExecute();
+        assertEquals(1, statusRequests.get());
+
+        downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Open");
+        downloader.setMetadataCache(metadataCache, 60000L);
+        downloader.doExecute();
+        assertEquals(1, statusRequests.get());
+
+        // a zero time to live always downloads the metadata
+        downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Open");
+        downloader.setMetadataCache(metadataCache, 0L);
+        downloader.doExecute();
+        assertEquals(2, statusRequests.get());
+    }
+
+    @Test
+    public void testExpiredMetadataIsRevalidated() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Closed");
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(1, statusRequests.get());
+        assertEquals(0, statusNotModified.get());
+
+        // the list is requested again, but answered from the cache directory
+        downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Open");
+        downloader.setCacheDirectory(cacheDirectory);
+        downloader.doExecute();
+        assertEquals(2, statusRequests.get());
+        assertEquals(1, statusNotModified.get());
+        assertEquals(3, downloader.getIssueList().size());
+    }
+
+    @Test
+    public void testPooledClientReusesSession() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        JiraHttpClientPool clientPool = new JiraHttpClientPool();
+        try {
+            for (int i = 0; i < 3; i++) {
+                RestJiraDownloader downloader = newDownloader(100, 50);
+                downloader.setJiraUser("user");
+                downloader.setJiraPassword("password");
+                downloader.setClientPool(clientPool);
+                downloader.doExecute();
+                assertEquals(3, downloader.getIssueList().size());
+            }
+            assertEquals(1, sessionRequests.get());
+        } finally {
+            clientPool.dispose();
+        }
+
+        // without a pool, each execution logs in
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setJiraUser("user");
+        downloader.setJiraPassword("password");
+        downloader.doExecute();
+        assertEquals(2, sessionRequests.get());
+    }
+
+    @Test
+    public void testCompressedResponsesAreCounted() throws Exception {
+        totalIssues = 100;
+        serverMaxResults = 1000;
+        compressResponses = true;
+
+        RestJiraDownloader downloader = newDownloader(500, 100);
+        downloader.doExecute();
+        assertEquals(100, downloader.getIssueList().size());
+        assertEquals("Issue 99", downloader.getIssueList().get(99).getSummary());
+
+        DownloadStatistics statistics = downloader.getDownloadStatistics();
+        assertTrue(statistics.getTransferredBytes() > 0);
+        assertTrue(statistics.getDecodedBytes() > 2 * statistics.getTransferredBytes());
+    }
+
+    @Test
+    public void testTransientErrorsAreRetried() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        unavailableSearches.set(2);
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.doExecute();
+        assertEquals(3, downloader.getIssueList().size());
+        assertEquals(3, searchRequests.get());
+    }
+
+    @Test
+    public void testRetryBudgetIsSharedBetweenDownloaders() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        unavailableSearches.set(Integer.MAX_VALUE);
+        JiraCircuitBreaker circuitBreaker = new JiraCircuitBreaker();
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setRetryBudget(2);
+        downloader.setCircuitBreaker(circuitBreaker);
+        assertThrows(MojoExecutionException.class, downloader::doExecute);
+        assertEquals(3, searchRequests.get());
+
+        // the budget is spent, the next execution gives up after the first failure
+        downloader = newDownloader(100, 50);
+        downloader.setRetryBudget(2);
+        downloader.setCircuitBreaker(circuitBreaker);
+        assertThrows(MojoExecutionException.class, downloader::doExecute);
+        assertEquals(4, searchRequests.get());
+    }
+
+    @Test
+    public void testOpenCircuitFailsFast() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        unavailableSearches.set(Integer.MAX_VALUE);
+        JiraCircuitBreaker circuitBreaker = new JiraCircuitBreaker();
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setMaxRetries(10);
+        downloader.setCircuitBreaker(circuitBreaker);
+        assertThrows(IOException.class, downloader::doExecute);
+        assertEquals(JiraCircuitBreaker.FAILURE_THRESHOLD, searchRequests.get());
+
+        // JIRA is not even asked for its server info any more
+        downloader = newDownloader(100, 50);
+        downloader.setCircuitBreaker(circuitBreaker);
+        assertThrows(IOException.class, downloader::doExecute);
+        assertEquals(JiraCircuitBreaker.FAILURE_THRESHOLD, searchRequests.get());
+        assertEquals(1, serverInfoRequests.get());
+    }
+
+    @Test
+    public void testMetadataListsAreDownloadedConcurrently() throws Exception {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        // the six lists are only answered once they have all been requested
+        metadataBarrier = new CyclicBarrier(6);
+
+        RestJiraDownloader downloader = newDownloaderWithAllMetadata();
+        downloader.doExecute();
+
+        assertFalse(metadataRequestedSerially);
+        assertEquals(3, downloader.getIssueList().size());
+        String jql = requestedJql;
+        assertTrue(jql.contains("component in (10)"), jql);
+        assertTrue(jql.contains("fixVersion in (20)"), jql);
+        assertTrue(jql.contains("status in (6)"), jql);
+        assertTrue(jql.contains("resolution in (30)"), jql);
+        assertTrue(jql.contains("type in (40)"), jql);
+        assertTrue(jql.contains("priority in (50)"), jql);
+    }
+
+    @Test
+    public void testFailingMetadataListFails() {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+        failingMetadata = "/rest/api/2/priority";
+
+        RestJiraDownloader downloader = newDownloaderWithAllMetadata();
+        MojoExecutionException e = assertThrows(MojoExecutionException.class, downloader::doExecute);
+        assertEquals("Failed to query issues; response 500", e.getMessage());
+        assertEquals(0, searchRequests.get());
+    }
+
+    @Test
+    public void testUnknownMetadataNameFails() {
+        totalIssues = 3;
+        serverMaxResults = 1000;
+
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setStatusIds("Reopened");
+        MojoFailureException e = assertThrows(MojoFailureException.class, downloader::doExecute);
+        assertEquals("Could not find status Reopened.", e.getMessage());
+    }
+
+    private RestJiraDownloader newDownloaderWithAllMetadata() {
+        RestJiraDownloader downloader = newDownloader(100, 50);
+        downloader.setComponent("Core");
+        downloader.setFixVersionIds("1.0");
+        downloader.setStatusIds("Closed");
+        downloader.setResolutionIds("Fixed");
+        downloader.setTypeIds("Bug");
+        downloader.setPriorityIds("Major");
+        return downloader;
+    }
+
+    private void metadataContext(String path, String list) {
+        server.createContext(path, exchange -> {
+            awaitMetadataBarrier();
+            if (path.equals(failingMetadata)) {
+                exchange.sendResponseHeaders(500, -1);
+                exchange.close();
+                return;
+            }
+            respond(exchange, list);
+        });
+    }
+
+    private void awaitMetadataBarrier() {
+        CyclicBarrier barrier = metadataBarrier;
+        if (barrier != null) {
+            try {
+                barrier.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                metadataRequestedSerially = true;
+            }
+        }
+    }
+
+    private RestJiraDownloader newDownloader(int maxEntries, int pageSize) {
+        IssueManagement issueManagement = new IssueManagement();
+        issueManagement.setSystem("JIRA");
+        issueManagement.setUrl("http://localhost:" + server.getAddress().getPort() + "/browse/TEST");
+        MavenProject project = new MavenProject();
+        project.setIssueManagement(issueManagement);
+
+        RestJiraDownloader downloader = new RestJiraDownloader();
+        downloader.setLog(mock(Log.class));
+        downloader.setMavenProject(project);
+        downloader.setSettings(new Settings());
+        downloader.setSettingsDecrypter(mock(SettingsDecrypter.class));
+        downloader.setNbEntries(maxEntries);
+        downloader.setPageSize(pageSize);
+        return downloader;
+    }
+
+    private void search(HttpExchange exchange) throws IOException {
+        searchRequests.incrementAndGet();
+        JsonNode request;
+        try (InputStream in = exchange.getRequestBody()) {
+            request = MAPPER.readTree(in);
+        }
+        if (unavailableSearches.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            exchange.getResponseHeaders().add("Retry-After", "0");
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        List<String> fields = new ArrayList<>();
+        request.path("fields").forEach(field -> fields.add(field.asText()));
+        requestedFields = fields;
+        requestedJql = request.path("jql").asText();
+        requestedMaxResults = request.path("maxResults").asInt();
+        boolean onlyUpdated = request.path("jql").asText().contains("updated >=");
+        int startAt = request.path("startAt").asInt();
+        int maxResults = Math.min(request.path("maxResults").asInt(), serverMaxResults);
+
+        StringBuilder sb = new StringBuilder();
+        // unknown fields and "total" after "issues" must be handled by the streaming parser
+        sb.append("{\"expand\":\"names\",\"startAt\":").append(startAt);
+        sb.append(",\"maxResults\":").append(maxResults);
+        sb.append(",\"issues\":[");
+        List<Integer> matching = new ArrayList<>();
+        for (int i = 0; i < totalIssues; i++) {
+            if (!onlyUpdated || updatedIssues.contains(i)) {
+                matching.add(i);
+            }
+        }
+        for (int i = startAt; i < Math.min(startAt + maxResults, matching.size()); i++) {
+            int number = matching.get(i);
+            if (i > startAt) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":\"").append(10000 + number).append("\",\"key\":\"TEST-").append(number);
+            sb.append("\",\"fields\":{\"summary\":\"");
+            sb.append(updatedIssues.contains(number) ? "Updated issue " : "Issue ").append(number).append("\",");
+            sb.append("\"status\":{\"name\":\"Closed\"},\"fixVersions\":[{\"name\":\"1.0\"}]}}");
+        }
+        sb.append("],\"names\":{\"summary\":\"Summary\",\"status\":\"Status\"}");
+        sb.append(",\"total\":").append(matching.size()).append('}');
+        respond(exchange, sb.toString());
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (compressResponses && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugins.changes.trac;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.apache.maven.model.IssueManagement;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugins.changes.issues.DownloadStatistics;
+import org.apache.maven.plugins.changes.issues.Issue;
+import org.apache.maven.project.MavenProject;
+import org.apache.xmlrpc.XmlRpcException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests {@link TracDownloader} against a local stub of the Trac XML-RPC API.
+ */
+public class TracDownloaderTest {
+
+    private static final Pattern METHOD_NAME = Pattern.compile("<methodName>([^<]*)</methodName>");
+
+    private static final Pattern INT_VALUE = Pattern.compile("<(?:i4|int)>(\\d+)</(?:i4|int)>");
+
+    /** Number of tickets known by the stub. */
+    private int totalTickets;
+
+    /** Whether the stub supports <code>system.multicall</code>, like most Trac installations do. */
+    private boolean multicallSupported = true;
+
+    /** Whether the stub answers an unknown method like old versions of the Trac XML-RPC plugin. */
+    private boolean legacyFaults;
+
+    /** The HTTP status the stub fails <code>system.multicall</code> with, if set. */
+    private int multicallStatus;
+
+    /** The fault the stub answers <code>system.multicall</code> with, if set. */
+    private String multicallFault;
+
+    private final Log log = mock(Log.class);
+
+    /** Makes the <code>ticket.get</code> calls wait for each other, if set. */
+    private CyclicBarrier ticketBarrier;
+
+    /** The client ports of the calls, one for each connection. */
+    private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+
+    /** The number of calls received by the stub, by method. */
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/login/xmlrpc", this::xmlrpc);
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTicketsAreFetchedInBatches() throws Exception {
+        totalTickets = 5;
+
+        TracDownloader downloader = newDownloader();
+        downloader.setBatchSize(2);
+        List<Issue> issues = downloader.getIssueList();
+
+        assertTickets(issues);
+        assertEquals(3, getCalls("system.multicall"));
+        assertEquals(0, getCalls("ticket.get"));
+    }
+
+    @Test
+    public void testTicketsAreFetchedOneByOneWithoutMulticall() throws Exception {
+        totalTickets = 5;
+        multicallSupported = false;
+
+        List<Issue> issues = newDownloader().getIssueList();
+
+        assertTickets(issues);
+        assertEquals(1, getCalls("system.multicall"));
+        assertEquals(5, getCalls("ticket.get"));
+        verify(log).info("Trac does not support system.multicall, fetching the tickets one by one.");
+    }
+
+    @Test
+    public void testTicketsAreFetchedOneByOneWithoutMulticallOnOldPlugins() throws Exception {
+        totalTickets = 5;
+        multicallSupported = false;
+        legacyFaults = true;
+
+        List<Issue> issues = newDownloader().getIssueList();
+
+        assertTickets(issues);
+        assertEquals(5, getCalls("ticket.get"));
+    }
+
+    @Test
+    public void testFailingMulticallIsNotRetriedOneByOne() {
+        totalTickets = 5;
+        multicallStatus = 503;
+
+        assertThrows(XmlRpcException.class, () -> newDownloader().getIssueList());
+        assertEquals(1, getCalls("system.multicall"));
+        assertEquals(0, getCalls("ticket.get"));
+
+        multicallStatus = 0;
+        multicallFault = "TICKET_VIEW privileges are required to perform this operation";
+
+        assertThrows(XmlRpcException.class, () -> newDownloader().getIssueList());
+        assertEquals(2, getCalls("system.multicall"));
+        assertEquals(0, getCalls("ticket.get"));
+        verify(log, never()).info(anyString());
+    }
+
+    @Test
+    public void testBatchesCanBeDisabled() throws Exception {
+        totalTickets = 3;
+
+        TracDownloader downloader = newDownloader();
+        downloader.setBatchSize(1);
+        List<Issue> issues = downloader.getIssueList();
+
+        assertEquals(3, issues.size());
+        assertEquals(0, getCalls("system.multicall"));
+        assertEquals(3, getCalls("ticket.get"));
+    }
+
+    @Test
+    public void testTicketsAreFetchedConcurrently() throws Exception {
+        totalTickets = 6;
+        multicallSupported = false;
+        // the calls only get their answers once three of them are in flight
+        ticketBarrier = new CyclicBarrier(3);
+
+        TracDownloader downloader = newDownloader();
+        downloader.setConcurrency(3);
+        List<Issue> issues = downloader.getIssueList();
+
+        assertTickets(issues);
+        assertEquals(6, getCalls("ticket.get"));
+    }
+
+    @Test
+    public void testBatchesAreFetchedConcurrently() throws Exception {
+        totalTickets = 7;
+
+        TracDownloader downloader = newDownloader();
+        downloader.setBatchSize(2);
+        downloader.setConcurrency(2);
+        List<Issue> issues = downloader.getIssueList();
+
+        assertTickets(issues);
+        assertEquals(4, getCalls("system.multicall"));
+        assertEquals(0, getCalls("ticket.get"));
+    }
+
+    @Test
+    public void testConnectionIsKeptAlive() throws Exception {
+        totalTickets = 3;
+
+        TracDownloader downloader = newDownloader();
+        downloader.setBatchSize(1);
+        downloader.getIssueList();
+
+        assertEquals(4, getCalls("ticket.query") + getCalls("ticket.get"));
+        assertEquals(1, connections.size());
+    }
+
+    @Test
+    public void testResponsesAreCompressed() throws Exception {
+        totalTickets = 20;
+
+        TracDownloader downloader = newDownloader();
+        assertTickets(downloader.getIssueList());
+        DownloadStatistics statistics = downloader.getDownloadStatistics();
+        assertTrue(statistics.getTransferredBytes() < statistics.getDecodedBytes(), statistics.toString());
+
+        downloader.setCompression(false);
+        assertTickets(downloader.getIssueList());
+        statistics = downloader.getDownloadStatistics();
+        assertEquals(statistics.getTransferredBytes(), statistics.getDecodedBytes());
+    }
+
+    @Test
+    public void testDatesAreParsed() {
+        assertEquals(1577836800000L, TracDownloader.parseDate("1577836800").getTime());
+        assertEquals(1577836800000L, TracDownloader.parseDate("+1577836800").getTime());
+        assertEquals(-86400000L, TracDownloader.parseDate("-86400").getTime());
+        assertEquals(
+                1577836800000L,
+                TracDownloader.parseDate("Wed Jan 01 00:00:00 UTC 2020").getTime());
+        assertEquals(
+                1577836800000L,
+                TracDownloader.parseDate("Wed Jan 01 01:00:00 CET 2020").getTime());
+        Date date = new Date(1577836800000L);
+        assertEquals(date, TracDownloader.parseDate(date.toString()));
+        assertThrows(RuntimeException.class, () -> TracDownloader.parseDate("2020-01-01"));
+        assertThrows(RuntimeException.class, () -> TracDownloader.parseDate("-"));
+    }
+
+    private void assertTickets(List<Issue> issues) {
+        assertEquals(totalTickets, issues.size());
+        for (int i = 0; i < totalTickets; i++) {
+            Issue issue = issues.get(i);
+            assertEquals(String.valueOf(i + 1), issue.getKey());
+            assertEquals("Ticket " + (i + 1), issue.getSummary());
+            assertEquals("closed", issue.getStatus());
+            assertEquals(1577836800000L, issue.getCreated().getTime());
+        }
+        assertNull(issues.get(0).getResolution());
+    }
+
+    private int getCalls(String method) {
+        AtomicInteger count = calls.get(method);
+        return count == null ? 0 : count.get();
+    }
+
+    private TracDownloader newDownloader() {
+        IssueManagement issueManagement = new IssueManagement();
+        issueManagement.setSystem("Trac");
+        issueManagement.setUrl("http://localhost:" + server.getAddress().getPort() + "/");
+        MavenProject project = new MavenProject();
+        project.setIssueManagement(issueManagement);
+
+        TracDownloader downloader = new TracDownloader();
+        downloader.setLog(log);
+        downloader.setProject(project);
+        downloader.setQuery("order=id");
+        return downloader;
+    }
+
+    private void xmlrpc(HttpExchange exchange) throws IOException {
+        String request;
+        try (InputStream in = exchange.getRequestBody()) {
+            request = IOUtils.toString(in, StandardCharsets.UTF_8);
+        }
+        Matcher methodName = METHOD_NAME.matcher(request);
+        methodName.find();
+        String method = methodName.group(1);
+        calls.computeIfAbsent(method, k -> new AtomicInteger()).incrementAndGet();
+        connections.add(exchange.getRemoteAddress().getPort());
+
+        List<Integer> ids = new ArrayList<>();
+        Matcher intValue = INT_VALUE.matcher(request);
+        while (intValue.find()) {
+            ids.add(Integer.valueOf(intValue.group(1)));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        if ("ticket.query".equals(method)) {
+            sb.append("<array><data>");
+            for (int id = 1; id <= totalTickets; id++) {
+                sb.append("<value><int>").append(id).append("</int></value>");
+            }
+            sb.append("</data></array>");
+        } else if ("ticket.get".equals(method)) {
+            if (ticketBarrier != null) {
+                try {
+                    ticketBarrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    respond(exchange, fault(1, "The calls were not concurrent"));
+                    return;
+                }
+            }
+            sb.append(ticket(ids.get(0)));
+        } else if ("system.multicall".equals(method) && multicallStatus != 0) {
+            exchange.sendResponseHeaders(multicallStatus, -1);
+            exchange.close();
+            return;
+        } else if ("system.multicall".equals(method) && multicallFault != null) {
+            respond(exchange, fault(1, multicallFault));
+            return;
+        } else if ("system.multicall".equals(method) && multicallSupported) {
+            sb.append("<array><data>");
+            for (int id : ids) {
+                sb.append("<value><array><data><value>").append(ticket(id)).append("</value></data></array></value>");
+            }
+            sb.append("</data></array>");
+        } else {
+            if (legacyFaults) {
+                respond(exchange, fault(1, "XML-RPC method \"" + method + "\" not found"));
+            } else {
+                respond(exchange, fault(-32601, "RPC method \"" + method + "\" not found"));
+            }
+            return;
+        }
+        respond(exchange, "<params><param><value>" + sb + "</value></param></params>");
+    }
+
+    private static String fault(int code, String message) {
+        return "<fault><value><struct>"
+                + "<member><name>faultCode</name><value><int>" + code + "</int></value></member>"
+                + "<member><name>faultString</name><value><string>" + message + "</string></value></member>"
+                + "</struct></value></fault>";
+    }
+
+    private static String ticket(int id) {
+        return "<array><data><value><int>" + id + "</int></value>"
+                + "<value><int>1577836800</int></value><value><int>1577923200</int></value>"
+                + "<value><struct>"
+                + "<member><name>summary</name><value><string>Ticket " + id + "</string></value></member>"
+                + "<member><name>status</name><value><string>closed</string></value></member>"
+                + "<member><name>type</name><value><string>defect</string></value></member>"
+                + "</struct></value></data></array>";
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\"?><methodResponse>" + body + "</methodResponse>")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/xml");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (OutputStream out = new GZIPOutputStream(compressed)) {
+                out.write(bytes);
+            }
+            bytes = compressed.toByteArray();
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}